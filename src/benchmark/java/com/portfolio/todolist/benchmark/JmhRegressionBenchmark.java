@@ -0,0 +1,125 @@
+package com.portfolio.todolist.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Executa as suítes JMH (benchmark.jmh) com o profiler de GC e compara com a baseline versionada.
+// A alocação por operação (gc.alloc.rate.norm) independe da máquina e é sempre verificada; o tempo por operação
+// só é comparado quando a baseline foi gerada no mesmo hardware (-Dbenchmark.jmh.check-time=true).
+// Execução: mvn test -Pbenchmarks -Dtest=JmhRegressionBenchmark [-Dbenchmark.jmh.include=TaskMapper]
+// Atualizar a baseline: ... -Dbenchmark.jmh.update-baseline=true
+@Tag("benchmark")
+class JmhRegressionBenchmark {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private static final String INCLUDE = System.getProperty("benchmark.jmh.include", "com.portfolio.todolist.benchmark.jmh.");
+    private static final Path BASELINE = Path.of(System.getProperty("benchmark.jmh.baseline", "src/benchmark/jmh-baseline.json"));
+    private static final Path RESULT = Path.of(System.getProperty("benchmark.jmh.result", "target/jmh-result.json"));
+    private static final int FORKS = Integer.getInteger("benchmark.jmh.forks", 1);
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("benchmark.jmh.warmup-iterations", 3);
+    private static final int MEASUREMENT_ITERATIONS = Integer.getInteger("benchmark.jmh.measurement-iterations", 5);
+    private static final long ITERATION_MS = Long.getLong("benchmark.jmh.iteration-ms", 1000);
+    private static final double ALLOC_TOLERANCE = Double.parseDouble(System.getProperty("benchmark.jmh.alloc-tolerance", "0.10"));
+    private static final double TIME_TOLERANCE = Double.parseDouble(System.getProperty("benchmark.jmh.time-tolerance", "0.20"));
+    private static final boolean CHECK_TIME = Boolean.getBoolean("benchmark.jmh.check-time");
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("benchmark.jmh.update-baseline");
+
+    // Folga absoluta para caminhos que quase não alocam (ruído do profiler na casa de poucos bytes)
+    private static final double ALLOC_SLACK_BYTES = 64;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void compareWithBaseline() throws Exception {
+        Files.createDirectories(RESULT.toAbsolutePath().getParent());
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(INCLUDE)
+                .forks(FORKS)
+                .warmupIterations(WARMUP_ITERATIONS)
+                .warmupTime(TimeValue.milliseconds(ITERATION_MS))
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .measurementTime(TimeValue.milliseconds(ITERATION_MS))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT.toString());
+
+        new Runner(options.build()).run();
+
+        Map<String, Measurement> current = read(RESULT);
+        assertThat(current).as("nenhum benchmark executado para '%s'", INCLUDE).isNotEmpty();
+
+        if (UPDATE_BASELINE || !Files.exists(BASELINE)) {
+            Files.copy(RESULT, BASELINE, StandardCopyOption.REPLACE_EXISTING);
+            System.out.printf("%nBaseline gravada em %s (%d benchmarks)%n", BASELINE, current.size());
+            return;
+        }
+
+        Map<String, Measurement> baseline = read(BASELINE);
+        List<String> regressions = new ArrayList<>();
+
+        System.out.printf("%n%-75s %14s %14s %12s %12s%n", "benchmark", "tempo", "baseline", "B/op", "baseline");
+        current.forEach((key, now) -> {
+            Measurement before = baseline.get(key);
+            if (before == null) {
+                System.out.printf("%-75s %14.1f %14s %12.0f %12s%n", key, now.score(), "(novo)", now.allocBytes(), "-");
+                return;
+            }
+
+            System.out.printf("%-75s %14.1f %14.1f %12.0f %12.0f  %s%n", key, now.score(), before.score(),
+                    now.allocBytes(), before.allocBytes(), now.unit());
+
+            if (now.allocBytes() > before.allocBytes() * (1 + ALLOC_TOLERANCE) + ALLOC_SLACK_BYTES) {
+                regressions.add("%s: alocação %.0f B/op (baseline %.0f B/op)".formatted(key, now.allocBytes(), before.allocBytes()));
+            }
+            if (CHECK_TIME && now.score() > before.score() * (1 + TIME_TOLERANCE)) {
+                regressions.add("%s: %.1f %s (baseline %.1f)".formatted(key, now.score(), now.unit(), before.score()));
+            }
+        });
+
+        assertThat(regressions).as("regressões em relação a %s", BASELINE).isEmpty();
+    }
+
+    // Chave = nome do benchmark + parâmetros (ex.: ...TaskJsonSerializationBenchmark.serializeList{size=1000})
+    private Map<String, Measurement> read(Path path) throws Exception {
+        Map<String, Measurement> measurements = new LinkedHashMap<>();
+
+        for (JsonNode run : jsonMapper.readTree(Files.readString(path))) {
+            String key = run.get("benchmark").asString();
+            JsonNode params = run.get("params");
+            if (params != null && !params.isEmpty()) {
+                key += params.toString().replace("\"", "").replace(':', '=');
+            }
+
+            JsonNode primary = run.get("primaryMetric");
+            JsonNode alloc = run.path("secondaryMetrics").path(ALLOC_METRIC).path("score");
+
+            measurements.put(key, new Measurement(primary.get("score").asDouble(), primary.get("scoreUnit").asString(),
+                    alloc.isMissingNode() ? 0 : alloc.asDouble()));
+        }
+
+        return measurements;
+    }
+
+    private record Measurement(double score, String unit, double allocBytes) {
+    }
+}
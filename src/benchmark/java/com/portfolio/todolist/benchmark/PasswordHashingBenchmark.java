@@ -0,0 +1,121 @@
+package com.portfolio.todolist.benchmark;
+
+import com.portfolio.todolist.exception.ServiceOverloadedException;
+import com.portfolio.todolist.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Vazão de autenticação por núcleo para cada custo do BCrypt e comportamento de uma "tempestade" de logins
+// com e sem o pool limitado de hashing (BoundedPasswordEncoder).
+// Execução: mvn test -Pbenchmarks -Dtest=PasswordHashingBenchmark -Dbenchmark.bcrypt-costs=10,11,12 -Dbenchmark.storm-clients=500
+@Tag("benchmark")
+class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "senha123";
+    private static final int[] COSTS = Arrays.stream(System.getProperty("benchmark.bcrypt-costs", "10,11,12").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final int STORM_CLIENTS = Integer.getInteger("benchmark.storm-clients", 500);
+    private static final int QUEUE_CAPACITY = Integer.getInteger("benchmark.queue-capacity", 100);
+    private static final long MEASURE_MS = Long.getLong("benchmark.measure-ms", 2000);
+
+    @Test
+    void throughputPerCore() {
+        System.out.printf("%n%-8s %14s %14s%n", "custo", "verif./s/núcleo", "ms/verificação");
+
+        for (int cost : COSTS) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            String hash = encoder.encode(PASSWORD);
+            encoder.matches(PASSWORD, hash); // aquecimento
+
+            long start = System.nanoTime();
+            long deadline = start + MEASURE_MS * 1_000_000;
+            int operations = 0;
+            while (System.nanoTime() < deadline) {
+                assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+                operations++;
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("%-8d %14.1f %14.1f%n", cost, operations / seconds, seconds * 1000 / operations);
+        }
+    }
+
+    @Test
+    void loginStorm() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(COSTS[0]);
+        String hash = bcrypt.encode(PASSWORD);
+
+        StormResult unbounded = storm("sem limite", bcrypt, hash);
+        StormResult bounded;
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(bcrypt, cores, QUEUE_CAPACITY, Duration.ofSeconds(5))) {
+            bounded = storm("limitado", encoder, hash);
+        }
+
+        System.out.printf("%n%d logins simultâneos, custo %d, %d núcleo(s), fila de %d%n", STORM_CLIENTS, COSTS[0], cores, QUEUE_CAPACITY);
+        System.out.printf("%-12s %10s %10s %10s %10s %12s%n", "modo", "aceitos", "503", "p50 (ms)", "p99 (ms)", "total (ms)");
+        unbounded.print();
+        bounded.print();
+
+        assertThat(unbounded.accepted()).isEqualTo(STORM_CLIENTS);
+        assertThat(bounded.accepted() + bounded.rejected()).isEqualTo(STORM_CLIENTS);
+        assertThat(bounded.accepted()).isPositive();
+    }
+
+    // Cada login é uma thread de plataforma (como as do Tomcat); a latência conta desde a chegada, incluindo a espera
+    private StormResult storm(String mode, PasswordEncoder encoder, String hash) throws InterruptedException {
+        long[] latencies = new long[STORM_CLIENTS];
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().factory())) {
+            for (int i = 0; i < STORM_CLIENTS; i++) {
+                int index = i;
+                long begin = System.nanoTime();
+                executor.submit(() -> {
+                    try {
+                        encoder.matches(PASSWORD, hash);
+                        accepted.incrementAndGet();
+                        latencies[index] = System.nanoTime() - begin;
+                    } catch (ServiceOverloadedException e) {
+                        rejected.incrementAndGet();
+                        latencies[index] = -1;
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] completed = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        return new StormResult(mode, accepted.get(), rejected.get(),
+                percentile(completed, 0.50), percentile(completed, 0.99), elapsed / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record StormResult(String mode, int accepted, int rejected, double p50, double p99, double totalMs) {
+
+        void print() {
+            System.out.printf("%-12s %10d %10d %10.1f %10.1f %12.1f%n", mode, accepted, rejected, p50, p99, totalMs);
+        }
+    }
+}
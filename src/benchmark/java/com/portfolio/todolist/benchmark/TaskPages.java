@@ -0,0 +1,31 @@
+package com.portfolio.todolist.benchmark;
+
+import com.portfolio.todolist.dto.CursorPageDTO;
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Páginas de tarefas sintéticas, com textos e datas distintos (o que limita o ganho da compressão) e 1/3 sem descrição
+public final class TaskPages {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private TaskPages() {
+    }
+
+    public static CursorPageDTO<TaskResponseDTO> page(int size) {
+        LocalDateTime base = LocalDateTime.of(2024, 12, 11, 15, 30, 0, 123_456_000);
+        List<TaskResponseDTO> tasks = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = base.plusSeconds(i * 37L);
+            tasks.add(new TaskResponseDTO((long) i + 1, "Tarefa número " + i, i % 3 == 0 ? null : "Descrição da tarefa " + i,
+                    STATUSES[i % STATUSES.length], createdAt, createdAt.plusMinutes(i % 90).plusNanos(i * 1_000L), (long) (i % 4)));
+        }
+
+        return new CursorPageDTO<>(tasks, "eyJpZCI6MTAwMDAwfQ", true, size);
+    }
+}
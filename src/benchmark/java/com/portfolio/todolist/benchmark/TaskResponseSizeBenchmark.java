@@ -0,0 +1,80 @@
+package com.portfolio.todolist.benchmark;
+
+import com.portfolio.todolist.dto.CursorPageDTO;
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.format.TaskColumnarHttpMessageConverter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bytes no fio de uma página de tarefas em cada formato das listagens, sem compressão e com gzip
+// (nível padrão, como o Tomcat com server.compression.enabled). O custo de CPU fica em TaskResponseFormatBenchmark (JMH).
+// Execução: mvn test -Pbenchmarks -Dtest=TaskResponseSizeBenchmark -Dbenchmark.format-sizes=1000,100000
+@Tag("benchmark")
+class TaskResponseSizeBenchmark {
+
+    private static final int[] SIZES = Arrays.stream(System.getProperty("benchmark.format-sizes", "1000,100000").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final TaskColumnarHttpMessageConverter columnar = new TaskColumnarHttpMessageConverter(jsonMapper);
+
+    @Test
+    void bytesOnTheWire() throws IOException {
+        Map<String, Function<CursorPageDTO<TaskResponseDTO>, byte[]>> formats = new LinkedHashMap<>();
+        formats.put("json", jsonMapper::writeValueAsBytes);
+        formats.put("json colunar", page -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            columnar.write(page, out);
+            return out.toByteArray();
+        });
+        formats.put("cbor", new CBORMapper()::writeValueAsBytes);
+        formats.put("smile", new SmileMapper()::writeValueAsBytes);
+
+        System.out.printf("%n%-8s %-14s %14s %10s %14s %10s %10s%n", "tarefas", "formato", "bytes", "B/tarefa", "gzip", "B/tarefa", "vs json");
+
+        for (int size : SIZES) {
+            CursorPageDTO<TaskResponseDTO> page = TaskPages.page(size);
+            long jsonGzip = 0;
+
+            for (Map.Entry<String, Function<CursorPageDTO<TaskResponseDTO>, byte[]>> format : formats.entrySet()) {
+                byte[] raw = format.getValue().apply(page);
+                long gzip = gzip(raw);
+                if (jsonGzip == 0) {
+                    jsonGzip = gzip;
+                }
+
+                System.out.printf("%-8d %-14s %14d %10.1f %14d %10.1f %9.0f%%%n", size, format.getKey(), raw.length,
+                        (double) raw.length / size, gzip, (double) gzip / size, 100.0 * gzip / jsonGzip);
+                assertThat(gzip).isLessThan(raw.length);
+            }
+        }
+    }
+
+    private static long gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.DEFAULT_COMPRESSION);
+            }
+        }) {
+            gzip.write(raw);
+        }
+        return out.size();
+    }
+}
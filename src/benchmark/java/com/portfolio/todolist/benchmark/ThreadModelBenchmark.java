@@ -0,0 +1,211 @@
+package com.portfolio.todolist.benchmark;
+
+import com.portfolio.todolist.TodoListProApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compara platform threads (pool do Tomcat) e virtual threads com muitos clientes lentos simultâneos.
+// Cada requisição faz uma consulta curta (pool JDBC) e depois espera bloqueada sem conexão (cliente lento / I/O externo).
+// Execução: mvn test -Pbenchmarks -Dbenchmark.clients=2000 -Dbenchmark.latency-ms=100
+@Tag("benchmark")
+class ThreadModelBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 2000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests-per-client", 5);
+    private static final long LATENCY_MS = Long.getLong("benchmark.latency-ms", 100);
+
+    @Test
+    void compareThreadModels() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%d clientes x %d requisições, espera de %d ms por requisição%n", CLIENTS, REQUESTS_PER_CLIENT, LATENCY_MS);
+        System.out.printf("%-10s %12s %10s %10s %10s %16s %14s%n", "modo", "req/s", "p50 (ms)", "p99 (ms)", "erros", "heap pico (MB)", "threads pico");
+        platform.print();
+        virtual.print();
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThat(platform.threadKind()).isEqualTo("platform");
+        assertThat(virtual.threadKind()).isEqualTo("virtual");
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoListProApplication.class, SlowEndpoint.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:bench-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--server.tomcat.max-connections=20000",
+                        "--server.tomcat.accept-count=1000",
+                        "--spring.datasource.hikari.maximum-pool-size=20")) {
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadClient client = new LoadClient("http://localhost:" + port);
+
+            client.authenticate(mode);
+            client.fire(Math.min(CLIENTS, 200), 1); // aquecimento (JIT, pool de conexões)
+
+            return client.measure(mode);
+        }
+    }
+
+    // Endpoint usado apenas pelo benchmark (registrado só nos contextos criados aqui)
+    @RestController
+    static class SlowEndpoint {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        SlowEndpoint(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/bench/slow")
+        String slow(@RequestParam long latencyMs) throws InterruptedException {
+            jdbcTemplate.queryForObject("select 1", Integer.class);
+            Thread.sleep(latencyMs);
+            return Thread.currentThread().isVirtual() ? "virtual" : "platform";
+        }
+    }
+
+    private static final class LoadClient {
+
+        private final String baseUrl;
+        private final HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        private String token;
+        private volatile String threadKind;
+
+        private LoadClient(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        private void authenticate(String username) throws Exception {
+            String body = "{\"username\":\"" + username + "\",\"email\":\"" + username + "@bench.local\",\"password\":\"senha123\"}";
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/register"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+
+            token = response.body().replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+        }
+
+        private Result measure(String mode) throws Exception {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            AtomicLong peakHeap = new AtomicLong();
+
+            System.gc();
+            threads.resetPeakThreadCount();
+
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+
+            long start = System.nanoTime();
+            Outcome outcome = fire(CLIENTS, REQUESTS_PER_CLIENT);
+            long elapsed = System.nanoTime() - start;
+
+            sampler.interrupt();
+            sampler.join();
+
+            long[] latencies = outcome.latencies();
+            Arrays.sort(latencies);
+            double throughput = latencies.length / (elapsed / 1_000_000_000.0);
+
+            return new Result(mode, throughput, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    outcome.errors(), peakHeap.get() / (1024 * 1024), threads.getPeakThreadCount(), threadKind);
+        }
+
+        // Cada cliente é uma virtual thread do lado do gerador: a carga não depende do modo do servidor
+        private Outcome fire(int clients, int requestsPerClient) throws InterruptedException {
+            long[] latencies = new long[clients * requestsPerClient];
+            AtomicInteger errors = new AtomicInteger();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/bench/slow?latencyMs=" + LATENCY_MS))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofMinutes(2))
+                    .GET()
+                    .build();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < clients; c++) {
+                    int offset = c * requestsPerClient;
+
+                    executor.submit(() -> {
+                        for (int r = 0; r < requestsPerClient; r++) {
+                            long begin = System.nanoTime();
+                            try {
+                                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                                if (response.statusCode() == 200) {
+                                    threadKind = response.body();
+                                } else {
+                                    errors.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                            latencies[offset + r] = System.nanoTime() - begin;
+                        }
+                    });
+                }
+            }
+
+            return new Outcome(latencies, errors.get());
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    private record Outcome(long[] latencies, int errors) {
+    }
+
+    private record Result(String mode, double throughput, double p50, double p99, int errors,
+                          long peakHeapMb, int peakThreads, String threadKind) {
+
+        void print() {
+            System.out.printf("%-10s %12.0f %10.1f %10.1f %10d %16d %14d%n",
+                    mode, throughput, p50, p99, errors, peakHeapMb, peakThreads);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.portfolio.todolist.benchmark.jmh;
+
+import com.portfolio.todolist.dto.TaskRequestDTO;
+import com.portfolio.todolist.exception.GlobalExceptionHandler;
+import com.portfolio.todolist.exception.ResourceNotFoundException;
+import com.portfolio.todolist.exception.ServiceOverloadedException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Montagem das respostas de erro do GlobalExceptionHandler (as exceções são criadas uma vez, fora da medição)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionResponseBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ResourceNotFoundException notFound;
+    private ServiceOverloadedException overloaded;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        notFound = new ResourceNotFoundException("Task", "id", 42L);
+        overloaded = new ServiceOverloadedException("Servidor ocupado processando autenticações", 1);
+
+        TaskRequestDTO target = new TaskRequestDTO();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, "taskRequestDTO");
+        bindingResult.addError(new FieldError("taskRequestDTO", "title", "O título é obrigatório"));
+        bindingResult.addError(new FieldError("taskRequestDTO", "description", "A descrição deve ter no máximo 500 caracteres"));
+
+        MethodParameter parameter = new MethodParameter(
+                ExceptionResponseBenchmark.class.getDeclaredMethod("endpoint", TaskRequestDTO.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> resourceNotFound() {
+        return handler.handleResourceNotFoundException(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validationErrors() {
+        return handler.handleValidationErrors(invalid);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> serviceOverloaded() {
+        return handler.handleServiceOverloadedException(overloaded);
+    }
+
+    // Assinatura de referência para o MethodParameter da validação
+    @SuppressWarnings("unused")
+    private void endpoint(TaskRequestDTO request) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.portfolio.todolist.benchmark.jmh;
+
+import com.portfolio.todolist.security.JwtTokenProvider;
+import com.portfolio.todolist.security.UserPrincipal;
+import com.portfolio.todolist.security.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Emissão e validação de JWT: caminho com o cache de tokens verificados (requisições repetidas) e sem ele (primeira vez)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setup() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10000);
+
+        tokenProvider = new JwtTokenProvider(cache);
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "minhachavesecretasuperseguradoprojeto2024todolistpro123456789");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 900_000L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+
+        UserPrincipal principal = UserPrincipal.fromToken(1L, "joao");
+        authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null, List.of());
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        tokenProvider.evict(token);
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(token);
+    }
+}
@@ -0,0 +1,49 @@
+package com.portfolio.todolist.benchmark.jmh;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serialização de listagens (de uma página pequena até uma exportação grande) direto no stream de saída, como na resposta HTTP
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskJsonSerializationBenchmark {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    // Como no conversor HTTP, o stream de saída não é fechado pelo Jackson
+    private final JsonMapper jsonMapper = JsonMapper.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private List<TaskResponseDTO> tasks;
+
+    @Setup
+    public void setup() {
+        LocalDateTime base = LocalDateTime.of(2024, 12, 11, 15, 30);
+        tasks = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponseDTO((long) i + 1, "Tarefa número " + i, "Descrição da tarefa " + i,
+                    STATUSES[i % STATUSES.length], base.plusMinutes(i), base.plusMinutes(i).plusSeconds(30), 0L));
+        }
+    }
+
+    @Benchmark
+    public void serializeList() {
+        jsonMapper.writeValue(sink, tasks);
+    }
+}
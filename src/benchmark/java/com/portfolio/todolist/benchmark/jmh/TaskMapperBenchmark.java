@@ -0,0 +1,46 @@
+package com.portfolio.todolist.benchmark.jmh;
+
+import com.portfolio.todolist.dto.TaskRequestDTO;
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.mapper.TaskMapper;
+import com.portfolio.todolist.model.Task;
+import com.portfolio.todolist.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Conversões DTO <-> entidade feitas em toda criação/atualização e em toda resposta
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper mapper = new TaskMapper();
+
+    private TaskRequestDTO request;
+    private Task task;
+
+    @Setup
+    public void setup() {
+        request = new TaskRequestDTO("Revisar pull request", "Conferir testes e documentação", TaskStatus.IN_PROGRESS);
+
+        task = new Task();
+        task.setId(42L);
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setCreatedAt(LocalDateTime.of(2024, 12, 11, 15, 30));
+        task.setUpdatedAt(LocalDateTime.of(2024, 12, 12, 9, 0));
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public TaskResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(task);
+    }
+}
@@ -0,0 +1,60 @@
+package com.portfolio.todolist.benchmark.jmh;
+
+import com.portfolio.todolist.benchmark.TaskPages;
+import com.portfolio.todolist.dto.CursorPageDTO;
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.format.TaskColumnarHttpMessageConverter;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// CPU e alocação para serializar uma página de tarefas em cada formato negociado nas listagens
+// (JSON, JSON colunar, CBOR e Smile). Os bytes no fio, com e sem gzip, ficam em TaskResponseSizeBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskResponseFormatBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    // Como nos conversores HTTP, o stream de saída não é fechado pelo Jackson
+    private final JsonMapper jsonMapper = JsonMapper.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+    private final ObjectMapper cborMapper = CBORMapper.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+    private final ObjectMapper smileMapper = SmileMapper.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+    private final TaskColumnarHttpMessageConverter columnar = new TaskColumnarHttpMessageConverter(jsonMapper);
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private CursorPageDTO<TaskResponseDTO> page;
+
+    @Setup
+    public void setup() {
+        page = TaskPages.page(size);
+    }
+
+    @Benchmark
+    public void json() {
+        jsonMapper.writeValue(sink, page);
+    }
+
+    @Benchmark
+    public void columnarJson() {
+        columnar.write(page, sink);
+    }
+
+    @Benchmark
+    public void cbor() {
+        cborMapper.writeValue(sink, page);
+    }
+
+    @Benchmark
+    public void smile() {
+        smileMapper.writeValue(sink, page);
+    }
+}
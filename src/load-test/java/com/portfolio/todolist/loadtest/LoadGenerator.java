@@ -0,0 +1,355 @@
+package com.portfolio.todolist.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gerador de carga em processo: clientes em virtual threads disparando o mix de operações pela pilha HTTP real
+// (Tomcat, filtros de segurança, controllers). Latências por operação em HdrHistogram (nanossegundos).
+// Modelo fechado por padrão (cada cliente espera a resposta antes da próxima); com uma taxa alvo, o modelo é aberto
+// e a latência conta a partir do instante planejado, evitando a omissão coordenada.
+final class LoadGenerator {
+
+    static final String[] VOCABULARY = {"relatório", "reunião", "deploy", "revisão", "orçamento",
+            "cliente", "backup", "fatura", "planejamento", "suporte", "contrato", "treinamento"};
+
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    private final String baseUrl;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    LoadGenerator(String baseUrl, Map<Operation, Integer> weights) {
+        this.baseUrl = baseUrl;
+        this.cumulativeWeights = new int[Operation.values().length];
+
+        int sum = 0;
+        for (Operation operation : Operation.values()) {
+            sum += weights.getOrDefault(operation, 0);
+            cumulativeWeights[operation.ordinal()] = sum;
+            stats.put(operation, new Stats());
+        }
+        this.totalWeight = sum;
+    }
+
+    // ---- Massa de dados -------------------------------------------------------------------------------------
+
+    SeededUser register(String username, String password) throws IOException, InterruptedException {
+        String body = """
+                {"username":"%s","email":"%s@load.local","password":"%s"}""".formatted(username, username, password);
+        JsonNode response = json(send(post("/api/auth/register", null, body), 201));
+        return new SeededUser(username, password, response.get("token").asString());
+    }
+
+    void seedTasks(SeededUser user, int count, int batchSize) throws IOException, InterruptedException {
+        for (int created = 0; created < count; created += batchSize) {
+            int size = Math.min(batchSize, count - created);
+            List<Map<String, String>> tasks = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                tasks.add(Map.of("title", randomTitle(created + i), "description", randomDescription()));
+            }
+
+            JsonNode result = json(send(post("/api/tasks/batch", user.token(), jsonMapper.writeValueAsString(Map.of("tasks", tasks))), 200));
+            for (JsonNode item : result.get("results")) {
+                user.addTask(item.get("id").asLong());
+            }
+        }
+    }
+
+    // ---- Execução -------------------------------------------------------------------------------------------
+
+    // Roda o mix por "duration" com "clients" clientes; targetRate > 0 ativa o modelo aberto (req/s no total)
+    void run(List<SeededUser> users, int clients, Duration duration, double targetRate) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long intervalNanos = targetRate > 0 ? (long) (clients * 1_000_000_000L / targetRate) : 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                long offset = intervalNanos * c / clients; // espalha os clientes dentro do intervalo
+
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long intended = System.nanoTime() + offset;
+
+                    while (System.nanoTime() < deadline) {
+                        if (intervalNanos > 0) {
+                            long wait = intended - System.nanoTime();
+                            if (wait > 0) {
+                                TimeUnit.NANOSECONDS.sleep(wait);
+                            }
+                        }
+
+                        long start = intervalNanos > 0 ? intended : System.nanoTime();
+                        Operation operation = pick(random);
+                        boolean ok = execute(operation, users.get(random.nextInt(users.size())), random);
+                        stats.get(operation).record(System.nanoTime() - start, ok);
+
+                        intended += intervalNanos;
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    void reset() {
+        stats.values().forEach(Stats::reset);
+    }
+
+    Map<Operation, Stats> stats() {
+        return stats;
+    }
+
+    private Operation pick(ThreadLocalRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            if (value < cumulativeWeights[operation.ordinal()]) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Mix de operações vazio");
+    }
+
+    private boolean execute(Operation operation, SeededUser user, ThreadLocalRandom random) {
+        try {
+            return switch (operation) {
+                case LOGIN -> {
+                    String body = """
+                            {"username":"%s","password":"%s"}""".formatted(user.username(), user.password());
+                    HttpResponse<String> response = http.send(post("/api/auth/login", null, body), HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 200) {
+                        user.setToken(json(response.body()).get("token").asString());
+                    }
+                    yield response.statusCode() == 200;
+                }
+                case LIST -> status(get("/api/tasks?size=20", user.token())) == 200;
+                case SEARCH -> status(get("/api/tasks/search?size=20&title="
+                        + URLEncoder.encode(VOCABULARY[random.nextInt(VOCABULARY.length)], StandardCharsets.UTF_8), user.token())) == 200;
+                case CREATE -> {
+                    String body = """
+                            {"title":"%s","description":"%s"}""".formatted(randomTitle(random.nextInt(1000)), randomDescription());
+                    HttpResponse<String> response = http.send(post("/api/tasks", user.token(), body), HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 201) {
+                        user.addTask(json(response.body()).get("id").asLong());
+                    }
+                    yield response.statusCode() == 201;
+                }
+                case UPDATE -> {
+                    Long id = user.randomTask(random);
+                    if (id == null) {
+                        yield false;
+                    }
+                    String body = """
+                            {"title":"%s","description":"%s","status":"%s"}""".formatted(randomTitle(random.nextInt(1000)),
+                            randomDescription(), STATUSES[random.nextInt(STATUSES.length)]);
+                    yield status(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id))
+                            .header("Authorization", "Bearer " + user.token())
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofSeconds(30))
+                            .PUT(HttpRequest.BodyPublishers.ofString(body))
+                            .build()) == 200;
+                }
+            };
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ---- Relatório ------------------------------------------------------------------------------------------
+
+    void printSummary(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        out.printf("%n%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "operação", "requisições", "erros", "req/s", "p50 (ms)", "p95 (ms)", "p99 (ms)", "p999 (ms)", "máx (ms)");
+
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().histogram.copy();
+            long errors = entry.getValue().errors.get();
+            total.add(histogram);
+            totalErrors += errors;
+            printRow(out, entry.getKey().name().toLowerCase(), histogram, errors, seconds);
+        }
+
+        printRow(out, "total", total, totalErrors, seconds);
+    }
+
+    // Distribuição completa de cada operação no formato .hgrm do HdrHistogram (valores em ms), para comparar execuções
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+                entry.getValue().histogram.copy().outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                name, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // ---- HTTP -----------------------------------------------------------------------------------------------
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private int status(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private String send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " -> " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private JsonNode json(String body) {
+        return jsonMapper.readTree(body);
+    }
+
+    private static String randomTitle(int seed) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return VOCABULARY[random.nextInt(VOCABULARY.length)] + " " + VOCABULARY[random.nextInt(VOCABULARY.length)] + " #" + seed;
+    }
+
+    private static String randomDescription() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder description = new StringBuilder("Detalhes:");
+        for (int i = 0; i < 8; i++) {
+            description.append(' ').append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+        return description.toString();
+    }
+
+    enum Operation {
+        LOGIN, LIST, SEARCH, CREATE, UPDATE
+    }
+
+    static final class Stats {
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, boolean ok) {
+            histogram.recordValue(nanos);
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            histogram.reset();
+            errors.set(0);
+        }
+
+        long count() {
+            return histogram.getTotalCount();
+        }
+
+        long errors() {
+            return errors.get();
+        }
+    }
+
+    static final class SeededUser {
+
+        private final String username;
+        private final String password;
+        private final List<Long> taskIds = new ArrayList<>();
+        private volatile String token;
+
+        SeededUser(String username, String password, String token) {
+            this.username = username;
+            this.password = password;
+            this.token = token;
+        }
+
+        String username() {
+            return username;
+        }
+
+        String password() {
+            return password;
+        }
+
+        String token() {
+            return token;
+        }
+
+        void setToken(String token) {
+            this.token = token;
+        }
+
+        synchronized void addTask(long id) {
+            taskIds.add(id);
+        }
+
+        synchronized Long randomTask(ThreadLocalRandom random) {
+            return taskIds.isEmpty() ? null : taskIds.get(random.nextInt(taskIds.size()));
+        }
+    }
+}
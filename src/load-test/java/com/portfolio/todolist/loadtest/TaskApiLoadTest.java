@@ -0,0 +1,109 @@
+package com.portfolio.todolist.loadtest;
+
+import com.portfolio.todolist.TodoListProApplication;
+import com.portfolio.todolist.loadtest.LoadGenerator.Operation;
+import com.portfolio.todolist.loadtest.LoadGenerator.SeededUser;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Teste de carga ponta a ponta: sobe a aplicação completa no perfil "loadtest" (H2 em memória, porta aleatória),
+// cria N usuários x M tarefas e roda o mix login/listagem/busca/criação/atualização pelo HTTP real.
+// Relatório por operação (req/s, p50/p95/p99/p999) no console e histogramas .hgrm em target/load-test.
+// Execução: mvn test -Pload-test -Dloadtest.users=50 -Dloadtest.tasks-per-user=500 -Dloadtest.clients=64 -Dloadtest.duration=60s
+@Tag("load-test")
+class TaskApiLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 20);
+    private static final int TASKS_PER_USER = Integer.getInteger("loadtest.tasks-per-user", 200);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+    private static final Duration WARMUP = Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s"));
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("loadtest.duration", "30s"));
+    private static final double TARGET_RATE = Double.parseDouble(System.getProperty("loadtest.rate", "0"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    private static final Path OUTPUT = Path.of(System.getProperty("loadtest.output", "target/load-test"));
+
+    // Mix padrão (pesos relativos), sobrescrito por -Dloadtest.mix=login:5,list:35,search:20,create:15,update:25
+    private static final String MIX = System.getProperty("loadtest.mix", "login:5,list:35,search:20,create:15,update:25");
+
+    @Test
+    void runMixedWorkload() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoListProApplication.class)
+                .profiles("loadtest")
+                .run("--rate-limit.enabled=" + Boolean.getBoolean("loadtest.rate-limit"))) {
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadGenerator generator = new LoadGenerator("http://localhost:" + port, parseMix(MIX));
+
+            long seedStart = System.nanoTime();
+            List<SeededUser> users = seed(generator);
+            System.out.printf("%nMassa criada: %d usuários x %d tarefas em %.1f s%n",
+                    USERS, TASKS_PER_USER, (System.nanoTime() - seedStart) / 1_000_000_000.0);
+
+            generator.run(users, CLIENTS, WARMUP, TARGET_RATE); // aquecimento (JIT, pools, caches)
+            generator.reset();
+
+            generator.run(users, CLIENTS, DURATION, TARGET_RATE);
+
+            System.out.printf("%n%d clientes, %s, %s por %s%n", CLIENTS, MIX,
+                    TARGET_RATE > 0 ? "modelo aberto a %.0f req/s".formatted(TARGET_RATE) : "modelo fechado", DURATION);
+            generator.printSummary(System.out, DURATION);
+            generator.writeHistograms(OUTPUT);
+            System.out.printf("Histogramas em %s%n", OUTPUT.toAbsolutePath());
+
+            long requests = generator.stats().values().stream().mapToLong(LoadGenerator.Stats::count).sum();
+            long errors = generator.stats().values().stream().mapToLong(LoadGenerator.Stats::errors).sum();
+
+            assertThat(requests).isPositive();
+            assertThat((double) errors / requests).as("taxa de erros").isLessThanOrEqualTo(MAX_ERROR_RATE);
+        }
+    }
+
+    // Usuários registrados em paralelo (o hash da senha domina); tarefas criadas via /api/tasks/batch
+    private List<SeededUser> seed(LoadGenerator generator) throws Exception {
+        List<SeededUser> users = Collections.synchronizedList(new ArrayList<>());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int u = 0; u < USERS; u++) {
+                String username = "load" + u;
+                futures.add(executor.submit(() -> {
+                    SeededUser user = generator.register(username, "senha123");
+                    generator.seedTasks(user, TASKS_PER_USER, 500);
+                    users.add(user);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        return new ArrayList<>(users);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+
+        return weights;
+    }
+}
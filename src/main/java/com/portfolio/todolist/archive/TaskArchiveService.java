@@ -0,0 +1,86 @@
+package com.portfolio.todolist.archive;
+
+import com.portfolio.todolist.event.TaskChangedEvent;
+import com.portfolio.todolist.model.ArchivedTask;
+import com.portfolio.todolist.model.Task;
+import com.portfolio.todolist.model.TaskStatus;
+import com.portfolio.todolist.model.TaskTombstone;
+import com.portfolio.todolist.repository.ArchivedTaskRepository;
+import com.portfolio.todolist.repository.TaskRepository;
+import com.portfolio.todolist.repository.TaskTombstoneRepository;
+import com.portfolio.todolist.sharding.ShardDirectory;
+import com.portfolio.todolist.stats.TaskStatsDelta;
+import com.portfolio.todolist.stats.TaskStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Move tarefas concluídas antigas de tasks para tasks_archive (armazenamento frio), um lote por transação, no shard
+// atual. Os contadores de status (/stats) passam a contar só as tarefas não arquivadas, e cada tarefa arquivada
+// ganha um tombstone: para a sincronização incremental (/changes) ela saiu da lista, como uma remoção
+@Service
+@RequiredArgsConstructor
+public class TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskStatsService taskStatsService;
+    private final ShardDirectory shardDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Bloqueia o próximo lote (após a posição), copia para o arquivo, remove de tasks e grava os tombstones em uma
+    // única transação
+    @Transactional
+    public Batch archiveNext(LocalDateTime cutoff, Position after, int batchSize) {
+        Limit limit = Limit.of(batchSize);
+        List<Task> locked = after == null
+                ? taskRepository.findFirstToArchive(TaskStatus.COMPLETED, cutoff, limit)
+                : taskRepository.findToArchiveAfter(TaskStatus.COMPLETED, cutoff, after.updatedAt(), after.id(), limit);
+
+        if (locked.isEmpty()) {
+            return new Batch(0, 0, after);
+        }
+
+        // Usuários em migração (ou cópias antigas de quem já migrou) ficam para depois
+        Task last = locked.getLast();
+        Position position = new Position(last.getUpdatedAt(), last.getId());
+        List<Task> tasks = locked.stream()
+                .filter(task -> shardDirectory.isWritableHere(task.getUser().getId()))
+                .toList();
+
+        if (tasks.isEmpty()) {
+            return new Batch(locked.size(), 0, position);
+        }
+
+        archivedTaskRepository.saveAll(tasks.stream().map(ArchivedTask::of).toList());
+        taskRepository.deleteAllByIdInBatch(tasks.stream().map(Task::getId).toList());
+        taskTombstoneRepository.saveAll(tasks.stream()
+                .map(task -> new TaskTombstone(task.getId(), task.getUser().getId()))
+                .toList());
+
+        Map<Long, TaskStatsDelta> deltas = new HashMap<>();
+        for (Task task : tasks) {
+            Long userId = task.getUser().getId();
+            deltas.computeIfAbsent(userId, id -> new TaskStatsDelta()).remove(task.getStatus());
+            eventPublisher.publishEvent(TaskChangedEvent.archived(userId, task.getId()));
+        }
+        deltas.forEach(taskStatsService::applyDelta);
+
+        return new Batch(locked.size(), tasks.size(), position);
+    }
+
+    // Posição keyset (updatedAt, id) da última tarefa arquivada
+    public record Position(LocalDateTime updatedAt, Long id) {
+    }
+
+    public record Batch(int locked, int archived, Position last) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.portfolio.todolist.archive;
+
+import com.portfolio.todolist.sharding.ShardContext;
+import com.portfolio.todolist.sharding.ShardDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Job periódico que arquiva as tarefas concluídas (sem alterações) há mais de tasks.archive.completed-age.
+// Percorre tasks em ordem (updatedAt, id) com lotes limitados e uma pausa entre eles, para não disputar
+// locks e I/O com as requisições. A posição keyset evita reler do início do índice a cada lote (no InnoDB,
+// as entradas recém-removidas continuam no índice até o purge). Cada shard é percorrido separadamente
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskArchiver {
+
+    private final TaskArchiveService archiveService;
+    private final ShardDirectory shardDirectory;
+
+    @Value("${tasks.archive.completed-age:90d}")
+    private Duration completedAge;
+
+    @Value("${tasks.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${tasks.archive.batch-delay:200ms}")
+    private Duration batchDelay;
+
+    @Scheduled(initialDelayString = "${tasks.archive.initial-delay-ms:300000}",
+            fixedDelayString = "${tasks.archive.interval-ms:3600000}")
+    public void archiveExpired() {
+        archiveCompletedBefore(LocalDateTime.now().minus(completedAge));
+    }
+
+    // Arquiva as tarefas concluídas com updatedAt anterior ao corte; retorna quantas foram arquivadas
+    public int archiveCompletedBefore(LocalDateTime cutoff) {
+        int archived = 0;
+
+        for (String shard : shardDirectory.shards()) {
+            try (ShardContext.Scope scope = ShardContext.open(shard)) {
+                archived += archiveShard(cutoff);
+            }
+        }
+
+        return archived;
+    }
+
+    private int archiveShard(LocalDateTime cutoff) {
+        int archived = 0;
+        TaskArchiveService.Position position = null;
+
+        TaskArchiveService.Batch batch;
+        do {
+            try {
+                batch = archiveService.archiveNext(cutoff, position, batchSize);
+            } catch (DataAccessException e) {
+                // Timeout de lock ou conflito com uma alteração concorrente: continua na próxima execução
+                log.warn("Falha ao arquivar tarefas do {} após {}", ShardContext.current(), position, e);
+                break;
+            }
+
+            archived += batch.archived();
+            position = batch.last();
+        } while (batch.locked() == batchSize && pause());
+
+        if (archived > 0) {
+            log.info("Arquivamento moveu {} tarefa(s) concluída(s) antes de {} para tasks_archive no {}",
+                    archived, cutoff, ShardContext.current());
+        }
+
+        return archived;
+    }
+
+    // Throttling entre lotes; interrompido, encerra a execução
+    private boolean pause() {
+        if (batchDelay.isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(batchDelay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
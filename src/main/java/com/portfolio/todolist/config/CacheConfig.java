@@ -0,0 +1,10 @@
+package com.portfolio.todolist.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Habilita o cache da aplicação (provedor e limites definidos em spring.cache.* no application.properties)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,107 @@
+package com.portfolio.todolist.config;
+
+import com.portfolio.todolist.datasource.ReadWriteRoutingDataSource;
+import com.portfolio.todolist.datasource.ReadYourWritesGuard;
+import com.portfolio.todolist.datasource.ReplicaDataSources;
+import com.portfolio.todolist.sharding.ShardDataSources;
+import com.portfolio.todolist.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// DataSource da aplicação: pool do primário (spring.datasource.*) e das réplicas de leitura (datasource.replica.urls;
+// sem réplicas, tudo vai ao primário), que formam o shard padrão, mais os shards adicionais (sharding.shard-urls).
+// O LazyConnectionDataSourceProxy adia a conexão física até o primeiro statement, quando o ShardRoutingDataSource
+// já conhece o shard e o ReadWriteRoutingDataSource sabe se a transação é readOnly (e transações sem statements
+// não usam conexão)
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Réplicas com as credenciais e o driver do primário (salvo configuração própria), somente leitura e com timeouts
+    // curtos: uma réplica fora do ar não pode segurar a requisição nem impedir a aplicação de subir
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSources replicaDataSources(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls:}") List<String> urls,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.replica.connection-timeout:1s}") Duration connectionTimeout) {
+        List<HikariDataSource> dataSources = new ArrayList<>(urls.size());
+
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(urls.get(i).trim());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setReadOnly(true);
+            dataSource.setMetricRegistry(meterRegistry);
+            dataSources.add(dataSource);
+        }
+
+        return new ReplicaDataSources(dataSources, meterRegistry);
+    }
+
+    // Shards adicionais com o driver e, salvo configuração própria, as credenciais do primário. Diferente das réplicas,
+    // um shard fora do ar impede a aplicação de subir: os usuários dele ficariam sem acesso às tarefas
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSources replicaDataSources,
+            ReadYourWritesGuard readYourWritesGuard,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${sharding.shard-urls:}") List<String> urls,
+            @Value("${sharding.username:${spring.datasource.username:}}") String username,
+            @Value("${sharding.password:${spring.datasource.password:}}") String password,
+            @Value("${sharding.maximum-pool-size:10}") int maximumPoolSize) {
+        List<HikariDataSource> dataSources = new ArrayList<>(urls.size());
+
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard" + (i + 1));
+            dataSource.setJdbcUrl(urls.get(i).trim());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSource.setMetricRegistry(meterRegistry);
+            dataSources.add(dataSource);
+        }
+
+        return new ShardDataSources(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSources, readYourWritesGuard, meterRegistry),
+                dataSources);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shardDataSources));
+    }
+}
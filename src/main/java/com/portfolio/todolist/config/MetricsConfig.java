@@ -0,0 +1,21 @@
+package com.portfolio.todolist.config;
+
+import com.portfolio.todolist.monitoring.HibernateSessionMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Métricas próprias da aplicação (expostas em /actuator/metrics e /actuator/prometheus).
+// Os timers de serviço usam @Timed (management.observations.annotations.enabled=true)
+@Configuration
+public class MetricsConfig {
+
+    // Mesmo limite do log de queries lentas do Hibernate (org.hibernate.SQL_SLOW)
+    @Bean
+    public HibernateSessionMetrics.Binder hibernateSessionMetrics(
+            @Value("${spring.jpa.properties.hibernate.log_slow_query:200}") long slowQueryMillis) {
+        return new HibernateSessionMetrics.Binder(Duration.ofMillis(slowQueryMillis));
+    }
+}
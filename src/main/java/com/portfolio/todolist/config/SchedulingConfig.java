@@ -0,0 +1,10 @@
+package com.portfolio.todolist.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Habilita os jobs agendados (@Scheduled) da aplicação
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
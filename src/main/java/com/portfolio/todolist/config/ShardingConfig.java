@@ -0,0 +1,26 @@
+package com.portfolio.todolist.config;
+
+import com.portfolio.todolist.sharding.ShardSchemaManager;
+import com.portfolio.todolist.sharding.SnowflakeIdGenerator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// Integração do sharding com o Hibernate: schema dos shards adicionais e worker do gerador de IDs
+@Configuration
+public class ShardingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer shardingHibernateProperties(ShardSchemaManager shardSchemaManager,
+                                                                     @Value("${sharding.worker-id:0}") int workerId) {
+        return properties -> {
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(shardSchemaManager));
+            properties.put(SnowflakeIdGenerator.WORKER_ID_SETTING, workerId);
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.portfolio.todolist.controller;
 
 import com.portfolio.todolist.dto.AuthResponseDTO;
 import com.portfolio.todolist.dto.LoginRequestDTO;
+import com.portfolio.todolist.dto.RefreshTokenRequestDTO;
 import com.portfolio.todolist.dto.RegisterRequestDTO;
 import com.portfolio.todolist.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -43,4 +45,27 @@ public class AuthController {
         AuthResponseDTO response = authService.login(loginDTO);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Renovar tokens", description = "Troca o refresh token por um novo access token e um novo refresh token (o anterior deixa de valer)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens renovados com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado ou já utilizado (a sessão é revogada)")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDTO> refresh(@Valid @RequestBody RefreshTokenRequestDTO refreshDTO) {
+        AuthResponseDTO response = authService.refresh(refreshDTO);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Fazer logout", description = "Revoga a sessão do refresh token e o access token enviado no header Authorization")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Logout realizado com sucesso")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequestDTO logoutDTO,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authService.logout(logoutDTO, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+}
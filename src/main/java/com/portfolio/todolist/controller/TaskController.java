@@ -1,7 +1,16 @@
 package com.portfolio.todolist.controller;
 
+import com.portfolio.todolist.dto.CursorPageDTO;
+import com.portfolio.todolist.dto.TaskBatchCreateRequestDTO;
+import com.portfolio.todolist.dto.TaskBatchDeleteRequestDTO;
+import com.portfolio.todolist.dto.TaskBatchResultDTO;
+import com.portfolio.todolist.dto.TaskBatchUpdateRequestDTO;
+import com.portfolio.todolist.dto.TaskChangesDTO;
+import com.portfolio.todolist.dto.TaskPatchRequestDTO;
 import com.portfolio.todolist.dto.TaskRequestDTO;
 import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.dto.TaskStatsDTO;
+import com.portfolio.todolist.format.TaskMediaTypes;
 import com.portfolio.todolist.model.TaskStatus;
 import com.portfolio.todolist.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,11 +19,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Tag(name = "Tasks", description = "Gerenciamento de Tarefas")
 @RestController
@@ -22,7 +43,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
 
+    // Respostas com ETag podem ser guardadas pelo cliente, mas devem ser revalidadas a cada uso
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
+    private final ContentNegotiationManager contentNegotiationManager;
 
     @Operation(summary = "Criar nova tarefa", description = "Cria uma nova tarefa com status PENDING por padrão")
     @ApiResponses(value = {
@@ -35,39 +60,101 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
 
-    @Operation(summary = "Listar todas as tarefas", description = "Retorna uma lista com todas as tarefas cadastradas")
-    @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
-    @GetMapping
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasks() {
-        List<TaskResponseDTO> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    @Operation(summary = "Listar todas as tarefas", description = "Retorna uma página de tarefas (mais recentes primeiro). Use o nextCursor retornado para buscar a próxima página. Envie o ETag recebido em If-None-Match para receber 304 quando nada mudou. Formatos (Accept): JSON, JSON colunar (application/vnd.todolist.columnar+json), CBOR e Smile. Com includeArchived=true, inclui as tarefas arquivadas (archived=true)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Nenhuma alteração desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    // Formato negociado pelo Accept; sem Accept (ou */*) responde JSON, o primeiro da lista
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, TaskMediaTypes.COLUMNAR_JSON_VALUE, TaskMediaTypes.CBOR_VALUE, TaskMediaTypes.SMILE_VALUE})
+    public ResponseEntity<CursorPageDTO<TaskResponseDTO>> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            NativeWebRequest webRequest) {
+        return conditional(webRequest, () -> taskService.getAllTasks(cursor, size, includeArchived));
     }
 
-    @Operation(summary = "Buscar tarefa por ID", description = "Retorna uma tarefa específica pelo seu ID")
+    @Operation(summary = "Buscar tarefa por ID", description = "Retorna uma tarefa específica pelo seu ID. Com includeArchived=true, procura também entre as arquivadas")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa encontrada"),
+            @ApiResponse(responseCode = "304", description = "Nenhuma alteração desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long id) {
-        TaskResponseDTO task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<TaskResponseDTO> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            NativeWebRequest webRequest) {
+        return conditional(webRequest, () -> taskService.getTaskById(id, includeArchived));
+    }
+
+    @Operation(summary = "Buscar tarefas por status", description = "Retorna uma página de tarefas com um status específico (PENDING, IN_PROGRESS, COMPLETED). Com includeArchived=true, COMPLETED inclui as tarefas arquivadas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Nenhuma alteração desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping(value = "/status/{status}", produces = {MediaType.APPLICATION_JSON_VALUE, TaskMediaTypes.COLUMNAR_JSON_VALUE, TaskMediaTypes.CBOR_VALUE, TaskMediaTypes.SMILE_VALUE})
+    public ResponseEntity<CursorPageDTO<TaskResponseDTO>> getTasksByStatus(
+            @PathVariable TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            NativeWebRequest webRequest) {
+        return conditional(webRequest, () -> taskService.getTasksByStatus(status, cursor, size, includeArchived));
+    }
+
+    @Operation(summary = "Buscar tarefas por texto", description = "Retorna uma página de tarefas cujo título ou descrição contenham todos os termos informados (sem diferenciar maiúsculas e acentos), ordenadas por relevância")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, TaskMediaTypes.COLUMNAR_JSON_VALUE, TaskMediaTypes.CBOR_VALUE, TaskMediaTypes.SMILE_VALUE})
+    public ResponseEntity<CursorPageDTO<TaskResponseDTO>> searchTasksByTitle(
+            @RequestParam String title,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<TaskResponseDTO> tasks = taskService.searchTasksByTitle(title, cursor, size);
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(tasks);
+    }
+
+    @Operation(summary = "Estatísticas das tarefas", description = "Retorna o total de tarefas do usuário e a quantidade em cada status (PENDING, IN_PROGRESS, COMPLETED)")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getTaskStats() {
+        TaskStatsDTO stats = taskService.getTaskStats();
+        return ResponseEntity.ok(stats);
     }
 
-    @Operation(summary = "Buscar tarefas por status", description = "Retorna todas as tarefas com um status específico (PENDING, IN_PROGRESS, COMPLETED)")
-    @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
-    @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskResponseDTO>> getTasksByStatus(@PathVariable TaskStatus status) {
-        List<TaskResponseDTO> tasks = taskService.getTasksByStatus(status);
-        return ResponseEntity.ok(tasks);
+    @Operation(summary = "Exportar tarefas", description = "Exporta todas as tarefas do usuário em NDJSON (um objeto JSON por linha), transmitido de forma incremental")
+    @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = taskService.exportTasks();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                .body(body);
     }
 
-    @Operation(summary = "Buscar tarefas por título", description = "Retorna tarefas que contenham o texto especificado no título (case insensitive)")
-    @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
-    @GetMapping("/search")
-    public ResponseEntity<List<TaskResponseDTO>> searchTasksByTitle(@RequestParam String title) {
-        List<TaskResponseDTO> tasks = taskService.searchTasksByTitle(title);
-        return ResponseEntity.ok(tasks);
+    @Operation(summary = "Sincronização incremental", description = "Retorna as tarefas criadas/alteradas e os IDs removidos desde o token informado em since (sem since: todas). Guarde o syncToken da resposta para a próxima chamada; resyncRequired=true indica que a lista completa deve ser recarregada")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Token de sincronização inválido")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDTO> getChanges(@RequestParam(required = false) String since) {
+        TaskChangesDTO changes = taskService.getChanges(since);
+        return ResponseEntity.ok(changes);
+    }
+
+    @Operation(summary = "Acompanhar alterações (SSE)", description = "Mantém uma conexão Server-Sent Events e envia os eventos created/updated/deleted das tarefas do usuário logo após cada alteração. Ao reconectar, envie Last-Event-ID para receber o que foi perdido; um evento reset indica que a lista deve ser recarregada")
+    @ApiResponse(responseCode = "200", description = "Conexão aberta")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskService.streamTaskChanges(lastEventId);
     }
 
     @Operation(summary = "Atualizar tarefa", description = "Atualiza os dados de uma tarefa existente")
@@ -84,6 +171,32 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    @Operation(summary = "Atualizar tarefa parcialmente", description = "Altera apenas os campos enviados (title, description, status) em um único UPDATE. Informe em version a versão recebida na última leitura; se a tarefa foi alterada depois disso, a resposta é 409. Envie description vazia para removê-la")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou nenhum campo informado"),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "409", description = "A tarefa foi alterada por outra requisição (versão desatualizada)")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponseDTO> patchTask(
+            @PathVariable Long id,
+            @Valid @RequestBody TaskPatchRequestDTO patchDTO) {
+        TaskResponseDTO updatedTask = taskService.patchTask(id, patchDTO);
+        return ResponseEntity.ok(updatedTask);
+    }
+
+    @Operation(summary = "Restaurar tarefa arquivada", description = "Devolve uma tarefa arquivada (concluída há mais tempo que o limite de arquivamento) às listagens, com o mesmo ID e uma nova versão")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefa restaurada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Tarefa arquivada não encontrada")
+    })
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<TaskResponseDTO> restoreTask(@PathVariable Long id) {
+        TaskResponseDTO restoredTask = taskService.restoreTask(id);
+        return ResponseEntity.ok(restoredTask);
+    }
+
     @Operation(summary = "Deletar tarefa", description = "Remove uma tarefa do sistema")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Tarefa deletada com sucesso"),
@@ -94,4 +207,80 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Criar tarefas em lote", description = "Cria várias tarefas em uma única transação e retorna o resultado de cada item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou lote acima do limite")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResultDTO> createTasks(@Valid @RequestBody TaskBatchCreateRequestDTO requestDTO) {
+        TaskBatchResultDTO result = taskService.createTasks(requestDTO.getTasks());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Atualizar tarefas em lote", description = "Atualiza várias tarefas em uma única transação; IDs inexistentes são reportados por item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou lote acima do limite")
+    })
+    @PutMapping("/batch")
+    public ResponseEntity<TaskBatchResultDTO> updateTasks(@Valid @RequestBody TaskBatchUpdateRequestDTO requestDTO) {
+        TaskBatchResultDTO result = taskService.updateTasks(requestDTO.getTasks());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Deletar tarefas em lote", description = "Remove várias tarefas em uma única transação; IDs inexistentes são reportados por item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou lote acima do limite")
+    })
+    @DeleteMapping("/batch")
+    public ResponseEntity<TaskBatchResultDTO> deleteTasks(@Valid @RequestBody TaskBatchDeleteRequestDTO requestDTO) {
+        TaskBatchResultDTO result = taskService.deleteTasks(requestDTO.getIds());
+        return ResponseEntity.ok(result);
+    }
+
+    // GET condicional: compara If-None-Match com a versão em memória antes de consultar o banco.
+    // Vary: Accept para que caches guardem cada formato negociado separadamente (cada um com a sua ETag)
+    private <T> ResponseEntity<T> conditional(NativeWebRequest webRequest, Supplier<T> body) {
+        String etag = taskService.getTasksETag(negotiatedFormat(webRequest));
+
+        if (etag == null) {
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(body.get());
+        }
+
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).body(body.get());
+    }
+
+    // Mesma escolha do Spring ao escrever o corpo: o primeiro tipo aceito (por qualidade e especificidade) compatível
+    // com os formatos do endpoint, na ordem do produces. Sem produces, ou sem tipo compatível (406 adiante), JSON
+    @SuppressWarnings("unchecked")
+    private MediaType negotiatedFormat(NativeWebRequest webRequest) {
+        Set<MediaType> producible = (Set<MediaType>) webRequest.getAttribute(
+                HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (producible == null || producible.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.resolveMediaTypes(webRequest);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        for (MediaType requested : acceptable) {
+            for (MediaType format : producible) {
+                if (requested.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
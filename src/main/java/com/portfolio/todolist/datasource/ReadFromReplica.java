@@ -0,0 +1,16 @@
+package com.portfolio.todolist.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marca uma leitura que tolera o atraso das réplicas: as consultas read-only executadas dentro do método vão para
+// uma réplica saudável, exceto quando o usuário acabou de escrever (ReadYourWritesGuard). Sem a marca, tudo vai
+// ao primário (inclusive as transações readOnly dos repositórios)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromReplica {
+}
@@ -0,0 +1,51 @@
+package com.portfolio.todolist.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// Expõe ao ReadWriteRoutingDataSource, pela thread, que a execução está dentro de um método @ReadFromReplica,
+// e ao método se alguma leitura dele foi servida por uma réplica
+@Aspect
+@Component
+public class ReadFromReplicaAspect {
+
+    private static final ThreadLocal<Invocation> ACTIVE = new ThreadLocal<>();
+
+    @Around("@annotation(com.portfolio.todolist.datasource.ReadFromReplica)")
+    public Object readFromReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        Invocation previous = ACTIVE.get();
+        ACTIVE.set(new Invocation());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    static void markReplicaUsed() {
+        Invocation invocation = ACTIVE.get();
+        if (invocation != null) {
+            invocation.replicaUsed = true;
+        }
+    }
+
+    // A execução @ReadFromReplica atual obteve conexão de uma réplica (dados possivelmente atrasados)
+    public static boolean isReplicaUsed() {
+        Invocation invocation = ACTIVE.get();
+        return invocation != null && invocation.replicaUsed;
+    }
+
+    private static final class Invocation {
+        private boolean replicaUsed;
+    }
+}
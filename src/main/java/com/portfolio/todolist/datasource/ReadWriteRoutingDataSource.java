@@ -0,0 +1,88 @@
+package com.portfolio.todolist.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Escolhe o banco de cada conexão física: réplica para leituras dentro de @ReadFromReplica em transação readOnly
+// (ou sem transação), com o usuário fora da janela de leia-suas-escritas e alguma réplica saudável; primário no resto.
+// Deve ficar atrás de um LazyConnectionDataSourceProxy, que só pede a conexão no primeiro statement, quando o
+// readOnly da transação já está definido
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final ReplicaDataSources replicas;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> connections = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSources replicas,
+                                      ReadYourWritesGuard readYourWritesGuard, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Optional<Replica> replica = replicaForCurrentRead();
+
+        if (replica.isPresent()) {
+            try {
+                Connection connection = replica.get().dataSource().getConnection();
+                ReadFromReplicaAspect.markReplicaUsed();
+                count(replica.get().name());
+                return connection;
+            } catch (SQLException e) {
+                // Réplica inacessível: sai do roteamento até a próxima verificação bem-sucedida e a leitura vai ao primário
+                if (replica.get().update(false, null)) {
+                    log.warn("Réplica {} removida do roteamento: falha ao obter conexão", replica.get().name(), e);
+                }
+            }
+        }
+
+        Connection connection = primary.getConnection();
+        count(PRIMARY);
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private Optional<Replica> replicaForCurrentRead() {
+        if (replicas.isEmpty() || !ReadFromReplicaAspect.isActive()) {
+            return Optional.empty();
+        }
+
+        boolean readOnly = !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly || readYourWritesGuard.isCurrentUserPinned()) {
+            return Optional.empty();
+        }
+
+        return replicas.next();
+    }
+
+    private void count(String target) {
+        connections.computeIfAbsent(target, name -> Counter.builder("datasource.routing.connections")
+                        .description("Conexões físicas obtidas por destino (primário ou réplica)")
+                        .tag("target", name)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.todolist.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.todolist.event.TaskChangedEvent;
+import com.portfolio.todolist.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// Leia-suas-escritas: após alterar tarefas, o usuário fica preso ao primário por datasource.replica.read-your-writes-window.
+// A janela deve superar o atraso máximo tolerado nas réplicas (max-lag + intervalo de verificação): passado esse tempo,
+// qualquer réplica saudável já tem a escrita. Vale por instância da aplicação (estado em memória)
+@Component
+public class ReadYourWritesGuard {
+
+    private final Cache<Long, Boolean> pinnedUsers;
+
+    public ReadYourWritesGuard(@Value("${datasource.replica.read-your-writes-window:5s}") Duration window,
+                               @Value("${datasource.replica.max-pinned-users:100000}") long maxPinnedUsers) {
+        this.pinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxPinnedUsers)
+                .build();
+    }
+
+    // Após o commit: a janela começa quando a escrita já está no primário
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        pin(event.userId());
+    }
+
+    public void pin(Long userId) {
+        pinnedUsers.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isPinned(Long userId) {
+        return pinnedUsers.getIfPresent(userId) != null;
+    }
+
+    // Usuário da requisição atual (sem usuário autenticado, nada a proteger)
+    public boolean isCurrentUserPinned() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && isPinned(principal.getId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.portfolio.todolist.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.time.Duration;
+
+// Uma réplica de leitura: pool próprio e resultado da última verificação (ReplicaHealthChecker).
+// Começa fora do roteamento até a primeira verificação bem-sucedida
+public final class Replica {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+
+    private volatile boolean healthy;
+    private volatile Duration lag;
+
+    Replica(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    // Atraso medido na última verificação (null se a réplica não respondeu)
+    public Duration lag() {
+        return lag;
+    }
+
+    // Retorna true se o estado mudou (para registrar só as transições no log)
+    boolean update(boolean healthy, Duration lag) {
+        this.lag = lag;
+        boolean changed = this.healthy != healthy;
+        this.healthy = healthy;
+        return changed;
+    }
+}
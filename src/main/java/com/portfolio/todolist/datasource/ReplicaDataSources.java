@@ -0,0 +1,66 @@
+package com.portfolio.todolist.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Pools das réplicas de leitura (fora do contexto como DataSource: uma réplica fora do ar não derruba o /actuator/health,
+// apenas sai do roteamento). Distribui as conexões em round-robin entre as réplicas saudáveis
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSources(List<HikariDataSource> dataSources, MeterRegistry meterRegistry) {
+        this.replicas = dataSources.stream()
+                .map(dataSource -> new Replica(dataSource.getPoolName(), dataSource))
+                .toList();
+
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("1 se a réplica recebe leituras, 0 se está fora do roteamento")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lag() != null ? r.lag().toMillis() / 1000.0 : Double.NaN)
+                    .description("Atraso da réplica medido pelo heartbeat")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<Replica> all() {
+        return replicas;
+    }
+
+    public boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    // Próxima réplica saudável (vazio se nenhuma estiver disponível: a leitura vai ao primário)
+    public Optional<Replica> next() {
+        int size = replicas.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return Optional.of(replica);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.todolist.datasource;
+
+import com.portfolio.todolist.model.ReplicaHeartbeat;
+import com.portfolio.todolist.repository.ReplicaHeartbeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Saúde das réplicas por heartbeat (como o pt-heartbeat): grava a hora atual em replica_heartbeat no primário e lê,
+// em cada réplica, o valor replicado. Réplicas inacessíveis, sem a linha ou com atraso acima de datasource.replica.max-lag
+// saem do roteamento e voltam na primeira verificação boa. O atraso medido inclui até um intervalo de heartbeat
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private static final String HEARTBEAT_QUERY = "select beat_at from replica_heartbeat where id = ?";
+
+    private final ReplicaDataSources replicas;
+    private final ReplicaHeartbeatRepository heartbeatRepository;
+
+    @Value("${datasource.replica.max-lag:3s}")
+    private Duration maxLag;
+
+    @Value("${datasource.replica.check-timeout-seconds:1}")
+    private int checkTimeoutSeconds;
+
+    @Scheduled(initialDelayString = "${datasource.replica.initial-delay-ms:0}",
+            fixedDelayString = "${datasource.replica.heartbeat-interval-ms:1000}")
+    public void beat() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (heartbeatRepository.touch(ReplicaHeartbeat.ID, now) == 0) {
+                heartbeatRepository.save(new ReplicaHeartbeat(ReplicaHeartbeat.ID, now));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar o heartbeat das réplicas no primário", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${datasource.replica.initial-delay-ms:0}",
+            fixedDelayString = "${datasource.replica.health-check-interval-ms:1000}")
+    public void check() {
+        for (Replica replica : replicas.all()) {
+            Duration lag = null;
+            String problem;
+
+            try {
+                lag = measureLag(replica);
+                problem = lag == null ? "sem heartbeat replicado"
+                        : lag.compareTo(maxLag) > 0 ? "atraso de " + lag.toMillis() + " ms" : null;
+            } catch (SQLException e) {
+                problem = "falha ao ler o heartbeat (" + e.getMessage() + ")";
+            }
+
+            if (replica.update(problem == null, lag)) {
+                if (problem == null) {
+                    log.info("Réplica {} de volta ao roteamento (atraso de {} ms)", replica.name(), lag.toMillis());
+                } else {
+                    log.warn("Réplica {} removida do roteamento: {}", replica.name(), problem);
+                }
+            }
+        }
+    }
+
+    private Duration measureLag(Replica replica) throws SQLException {
+        try (Connection connection = replica.dataSource().getConnection();
+             PreparedStatement statement = connection.prepareStatement(HEARTBEAT_QUERY)) {
+            statement.setQueryTimeout(checkTimeoutSeconds);
+            statement.setLong(1, ReplicaHeartbeat.ID);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+
+                LocalDateTime beatAt = resultSet.getObject(1, LocalDateTime.class);
+                Duration lag = Duration.between(beatAt, LocalDateTime.now());
+                return lag.isNegative() ? Duration.ZERO : lag;
+            }
+        }
+    }
+}
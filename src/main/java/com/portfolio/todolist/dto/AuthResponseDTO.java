@@ -11,12 +11,16 @@ public class AuthResponseDTO {
 
     private String token;
     private String type = "Bearer";
+    private long expiresIn; // Validade do access token, em segundos
+    private String refreshToken;
     private String username;
     private String email;
 
-    public AuthResponseDTO(String token, String username, String email) {
+    public AuthResponseDTO(String token, long expiresIn, String refreshToken, String username, String email) {
         this.token = token;
+        this.expiresIn = expiresIn;
+        this.refreshToken = refreshToken;
         this.username = username;
         this.email = email;
     }
-}
\ No newline at end of file
+}
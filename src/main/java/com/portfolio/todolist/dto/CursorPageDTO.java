@@ -0,0 +1,18 @@
+package com.portfolio.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+    private String nextCursor; // Token opaco para a próxima página (null na última)
+    private boolean hasNext;
+    private int size;
+}
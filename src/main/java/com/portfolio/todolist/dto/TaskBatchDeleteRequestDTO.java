@@ -0,0 +1,18 @@
+package com.portfolio.todolist.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchDeleteRequestDTO {
+
+    @NotEmpty(message = "Informe ao menos um ID")
+    private List<@NotNull(message = "O ID da tarefa é obrigatório") Long> ids;
+}
@@ -0,0 +1,17 @@
+package com.portfolio.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResultDTO {
+
+    private int index;            // Posição do item na requisição
+    private Long id;
+    private int status;           // Status HTTP equivalente ao da operação individual
+    private String message;
+    private TaskResponseDTO task; // Ausente em exclusões e falhas
+}
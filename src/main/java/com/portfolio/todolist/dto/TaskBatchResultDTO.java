@@ -0,0 +1,23 @@
+package com.portfolio.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResultDTO {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<TaskBatchItemResultDTO> results;
+
+    public static TaskBatchResultDTO of(List<TaskBatchItemResultDTO> results) {
+        int succeeded = (int) results.stream().filter(result -> result.getStatus() < 400).count();
+        return new TaskBatchResultDTO(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
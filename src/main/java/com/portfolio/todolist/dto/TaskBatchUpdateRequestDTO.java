@@ -0,0 +1,18 @@
+package com.portfolio.todolist.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchUpdateRequestDTO {
+
+    @NotEmpty(message = "Informe ao menos uma tarefa")
+    private List<@Valid TaskBatchUpdateItemDTO> tasks;
+}
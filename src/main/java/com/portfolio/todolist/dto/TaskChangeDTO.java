@@ -0,0 +1,20 @@
+package com.portfolio.todolist.dto;
+
+import com.portfolio.todolist.event.TaskChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeDTO {
+
+    private TaskChangedEvent.Type type;
+    private Long taskId;
+    private TaskResponseDTO task; // null quando a tarefa foi removida
+
+    public static TaskChangeDTO of(TaskChangedEvent event) {
+        return new TaskChangeDTO(event.type(), event.taskId(), event.task());
+    }
+}
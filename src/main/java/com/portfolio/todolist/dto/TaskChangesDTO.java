@@ -0,0 +1,18 @@
+package com.portfolio.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+
+    private List<TaskResponseDTO> changed; // Criadas ou alteradas desde o token
+    private List<Long> deleted;            // IDs removidos desde o token
+    private String syncToken;              // Enviar como "since" na próxima sincronização
+    private boolean resyncRequired;        // true: recarregar a lista completa e seguir com o syncToken
+}
@@ -0,0 +1,34 @@
+package com.portfolio.todolist.dto;
+
+import com.portfolio.todolist.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Atualização parcial: só os campos enviados são alterados (ausente ou null = mantém o valor atual).
+// A versão é a recebida na última leitura da tarefa; se outra edição veio antes, a resposta é 409
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPatchRequestDTO {
+
+    @Size(min = 3, max = 100, message = "O título deve ter entre 3 e 100 caracteres")
+    @Pattern(regexp = "(?s).*\\S.*", message = "O título não pode ficar em branco")
+    private String title;
+
+    // Descrição vazia remove a descrição atual
+    @Size(max = 500, message = "A descrição deve ter no máximo 500 caracteres")
+    private String description;
+
+    private TaskStatus status;
+
+    @NotNull(message = "A versão da tarefa é obrigatória")
+    private Long version;
+
+    public boolean hasChanges() {
+        return title != null || description != null || status != null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio.todolist.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.portfolio.todolist.model.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,4 +19,14 @@ public class TaskResponseDTO {
     private TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+    private Long version;
+
+    // Só aparece no JSON das tarefas arquivadas (listagens com includeArchived)
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean archived;
+
+    public TaskResponseDTO(Long id, String title, String description, TaskStatus status,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, title, description, status, createdAt, updatedAt, version, false);
+    }
+}
@@ -0,0 +1,22 @@
+package com.portfolio.todolist.dto;
+
+import com.portfolio.todolist.model.UserTaskStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+
+    private long total;
+    private long pending;
+    private long inProgress;
+    private long completed;
+
+    public static TaskStatsDTO of(UserTaskStats stats) {
+        long total = stats.getPending() + stats.getInProgress() + stats.getCompleted();
+        return new TaskStatsDTO(total, stats.getPending(), stats.getInProgress(), stats.getCompleted());
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.todolist.event;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+
+// Evento publicado pelo TaskService a cada alteração de tarefa (consumido após o commit)
+public record TaskChangedEvent(Type type, Long userId, Long taskId, TaskResponseDTO task) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ARCHIVED, // Movida para tasks_archive (TaskArchiver)
+        RESTORED  // De volta a tasks
+    }
+
+    public static TaskChangedEvent created(Long userId, TaskResponseDTO task) {
+        return new TaskChangedEvent(Type.CREATED, userId, task.getId(), task);
+    }
+
+    public static TaskChangedEvent updated(Long userId, TaskResponseDTO task) {
+        return new TaskChangedEvent(Type.UPDATED, userId, task.getId(), task);
+    }
+
+    public static TaskChangedEvent deleted(Long userId, Long taskId) {
+        return new TaskChangedEvent(Type.DELETED, userId, taskId, null);
+    }
+
+    public static TaskChangedEvent archived(Long userId, Long taskId) {
+        return new TaskChangedEvent(Type.ARCHIVED, userId, taskId, null);
+    }
+
+    public static TaskChangedEvent restored(Long userId, TaskResponseDTO task) {
+        return new TaskChangedEvent(Type.RESTORED, userId, task.getId(), task);
+    }
+
+    // A tarefa saiu de tasks (removida ou arquivada)
+    public boolean removesTask() {
+        return type == Type.DELETED || type == Type.ARCHIVED;
+    }
+}
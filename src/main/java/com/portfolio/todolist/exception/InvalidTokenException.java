@@ -0,0 +1,8 @@
+package com.portfolio.todolist.exception;
+
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
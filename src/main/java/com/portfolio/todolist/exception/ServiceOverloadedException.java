@@ -0,0 +1,15 @@
+package com.portfolio.todolist.exception;
+
+import lombok.Getter;
+
+// Capacidade esgotada (ex.: fila de hashing de senhas cheia): o cliente deve tentar de novo após retryAfterSeconds
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,123 @@
+package com.portfolio.todolist.format;
+
+import com.portfolio.todolist.dto.CursorPageDTO;
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Escreve páginas de tarefas (CursorPageDTO<TaskResponseDTO>) em JSON colunar (TaskMediaTypes.COLUMNAR_JSON):
+// {"columns":["id",...],"rows":[[1,"Título",null,"PENDING",1733931000000,1733931030000,0,false],...],"nextCursor":...,"hasNext":...,"size":...}
+// Datas em milissegundos desde a época (fuso do servidor). Só escrita; os demais tipos e os erros seguem no JSON padrão.
+// Como bean, o Spring Boot registra o conversor antes dos padrões.
+@Component
+public class TaskColumnarHttpMessageConverter extends AbstractGenericHttpMessageConverter<CursorPageDTO<TaskResponseDTO>> {
+
+    private static final String[] COLUMNS = {"id", "title", "description", "status", "createdAt", "updatedAt", "version", "archived"};
+
+    private final JsonMapper jsonMapper;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public TaskColumnarHttpMessageConverter(JsonMapper jsonMapper) {
+        super(TaskMediaTypes.COLUMNAR_JSON);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CursorPageDTO.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    // Apenas páginas de TaskResponseDTO (o tipo genérico vem da assinatura do controller)
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        ResolvableType pageType = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        return supports(pageType.toClass())
+                && TaskResponseDTO.class.equals(pageType.as(CursorPageDTO.class).getGeneric(0).resolve())
+                && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(CursorPageDTO<TaskResponseDTO> page, Type type, HttpOutputMessage outputMessage) throws IOException {
+        write(page, outputMessage.getBody());
+    }
+
+    // Escreve direto no stream (sem fechá-lo); também usado pelos benchmarks
+    public void write(CursorPageDTO<TaskResponseDTO> page, OutputStream out) {
+        try (JsonGenerator generator = jsonMapper.createGenerator(StreamUtils.nonClosing(out))) {
+            generator.writeStartObject();
+
+            generator.writeArrayPropertyStart("columns");
+            for (String column : COLUMNS) {
+                generator.writeString(column);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayPropertyStart("rows");
+            for (TaskResponseDTO task : page.getContent()) {
+                generator.writeStartArray();
+                writeNumber(generator, task.getId());
+                generator.writeString(task.getTitle());
+                generator.writeString(task.getDescription());
+                generator.writeString(task.getStatus() != null ? task.getStatus().name() : null);
+                writeNumber(generator, toEpochMillis(task.getCreatedAt()));
+                writeNumber(generator, toEpochMillis(task.getUpdatedAt()));
+                writeNumber(generator, task.getVersion());
+                generator.writeBoolean(task.isArchived());
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+
+            generator.writeStringProperty("nextCursor", page.getNextCursor());
+            generator.writeBooleanProperty("hasNext", page.isHasNext());
+            generator.writeNumberProperty("size", page.getSize());
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public CursorPageDTO<TaskResponseDTO> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Formato colunar é somente de resposta", inputMessage);
+    }
+
+    @Override
+    protected CursorPageDTO<TaskResponseDTO> readInternal(Class<? extends CursorPageDTO<TaskResponseDTO>> clazz,
+                                                          HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Formato colunar é somente de resposta", inputMessage);
+    }
+
+    private Long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(zone).toInstant().toEpochMilli() : null;
+    }
+
+    private static void writeNumber(JsonGenerator generator, Long value) {
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.portfolio.todolist.format;
+
+import org.springframework.http.MediaType;
+
+// Formatos negociados (Accept) nas listagens de tarefas, além do JSON padrão
+public final class TaskMediaTypes {
+
+    // JSON colunar: nomes dos campos uma vez só e cada tarefa como um array de valores
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.todolist.columnar+json";
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+
+    // Binários (conversores registrados pelo Spring quando o jackson-dataformat está no classpath)
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private TaskMediaTypes() {
+    }
+}
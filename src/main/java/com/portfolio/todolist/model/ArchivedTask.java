@@ -0,0 +1,63 @@
+package com.portfolio.todolist.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Tarefa concluída movida para o armazenamento frio (tasks_archive) pelo TaskArchiver; mantém o ID original,
+// para que a restauração devolva a tarefa a tasks sem mudar referências dos clientes
+@Entity
+@Table(name = "tasks_archive", indexes = {
+        // Listagem com includeArchived (mesma ordem keyset de tasks)
+        @Index(name = "idx_tasks_archive_user_created", columnList = "user_id, created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTask implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+
+    public static ArchivedTask of(Task task) {
+        return new ArchivedTask(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getUser().getId(), task.getCreatedAt(), task.getUpdatedAt(), task.getVersion(), null);
+    }
+
+    // Registros do arquivo são apenas inseridos (ID já atribuído): evita o SELECT que o save faria
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
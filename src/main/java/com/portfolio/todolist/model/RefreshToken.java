@@ -0,0 +1,54 @@
+package com.portfolio.todolist.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// Refresh token opaco (só o hash SHA-256 é persistido). Cada uso gera um novo token da mesma família
+// e marca o anterior como substituído; reapresentar um token já usado revoga a família inteira.
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Sessão de login: todos os tokens obtidos por rotação a partir do mesmo login
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    // Access token emitido junto com este refresh token (revogado se a família for comprometida)
+    @Column(name = "access_token_jti", nullable = false, length = 36)
+    private String accessTokenJti;
+
+    @Column(name = "access_token_expires_at", nullable = false)
+    private LocalDateTime accessTokenExpiresAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Preenchido quando o token é usado (rotação), no logout ou quando a família é revogada
+    private LocalDateTime revokedAt;
+}
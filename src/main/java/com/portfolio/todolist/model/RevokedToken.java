@@ -0,0 +1,48 @@
+package com.portfolio.todolist.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Access token revogado antes do "exp": fonte da lista em memória (carregada na subida e sincronizada entre instâncias)
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_revoked", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_tokens_expires", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private LocalDateTime revokedAt;
+
+    public RevokedToken(String jti, LocalDateTime expiresAt) {
+        this(jti, expiresAt, null);
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    // Revogações são apenas inseridas: evita o SELECT que o save faria por causa do ID atribuído
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -1,23 +1,35 @@
 package com.portfolio.todolist.model;
 
+import com.portfolio.todolist.sharding.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Índices para a paginação keyset por usuário (e por status)
+        @Index(name = "idx_tasks_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_tasks_user_status_created", columnList = "user_id, status, created_at, id"),
+        // Sincronização incremental (alterações desde um instante)
+        @Index(name = "idx_tasks_user_updated", columnList = "user_id, updated_at, id"),
+        // Arquivamento das concluídas antigas (TaskArchiver)
+        @Index(name = "idx_tasks_status_updated", columnList = "status, updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    // Gerado na aplicação (únicos entre shards, sem ida ao banco): também permite batch de INSERTs no JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -30,8 +42,12 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private TaskStatus status = TaskStatus.PENDING;
 
+    // Fora do toString/equals/hashCode gerados pelo Lombok: acessar o proxy LAZY dispararia um SELECT por tarefa.
+    // Sem FK: users fica só no shard padrão
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @CreationTimestamp
@@ -41,4 +57,9 @@ public class Task {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    // Versão para lock otimista: incrementada a cada alteração (edições concorrentes respondem 409)
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.portfolio.todolist.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Registro de uma tarefa removida, mantido pelo período de retenção para a sincronização incremental
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_tombstones_user_deleted", columnList = "user_id, deleted_at"),
+        @Index(name = "idx_tombstones_deleted", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone implements Persistable<Long> {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public TaskTombstone(Long taskId, Long userId) {
+        this(taskId, userId, null);
+    }
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    // Tombstones são apenas inseridos: evita o SELECT que o save faria por causa do ID atribuído
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.portfolio.todolist.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Exceção ao anel de hash no diretório de shards: usuário movido pelo ShardRebalancer (shard) ou em migração
+// (targetShard preenchido). Usuários sem registro ficam no shard indicado pelo anel
+@Entity
+@Table(name = "user_shard_assignments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserShardAssignment implements Persistable<Long> {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String shard;
+
+    @Column(length = 50)
+    private String targetShard;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    public boolean isMigrating() {
+        return targetShard != null;
+    }
+
+    // Registros são criados só pelo início de uma migração (INSERT simples; a corrida entre instâncias falha na PK)
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.portfolio.todolist.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Resumo por usuário da quantidade de tarefas em cada status (mantido de forma incremental pelo TaskService)
+@Entity
+@Table(name = "user_task_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long pending;
+
+    @Column(nullable = false)
+    private long inProgress;
+
+    @Column(nullable = false)
+    private long completed;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
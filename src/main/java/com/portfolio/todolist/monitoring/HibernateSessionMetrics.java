@@ -0,0 +1,104 @@
+package com.portfolio.todolist.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Métricas por sessão do Hibernate (com open-in-view, uma sessão por requisição): statements JDBC, flushes,
+// tempo gasto no banco e statements acima do limite de lentidão. O Hibernate cria uma instância por sessão
+// (hibernate.session.events.auto), então os medidores ficam em um holder estático preenchido pelo Binder.
+// Cada execução também entra na contagem da requisição (SqlStatementCounter).
+public class HibernateSessionMetrics implements SessionEventListener {
+
+    private static volatile Meters meters;
+
+    private int statements;
+    private int flushes;
+    private long jdbcNanos;
+    private long statementStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        long elapsed = System.nanoTime() - statementStart;
+        statements++;
+        jdbcNanos += elapsed;
+        SqlStatementCounter.executed();
+
+        Meters current = meters;
+        if (current != null && elapsed >= current.slowThresholdNanos()) {
+            current.slowStatements().increment();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        flushes++;
+    }
+
+    @Override
+    public void end() {
+        Meters current = meters;
+        if (current == null) {
+            return;
+        }
+
+        current.statements().record(statements);
+        current.flushes().record(flushes);
+        current.jdbcTime().record(jdbcNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Registra os medidores na subida (MeterBinder é aplicado automaticamente pelo Actuator)
+    public static final class Binder implements MeterBinder {
+
+        private final Duration slowThreshold;
+
+        public Binder(Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+        }
+
+        @Override
+        public void bindTo(MeterRegistry registry) {
+            meters = new Meters(
+                    DistributionSummary.builder("hibernate.session.statements")
+                            .description("Statements JDBC executados por sessão (requisição)")
+                            .publishPercentileHistogram()
+                            .register(registry),
+                    DistributionSummary.builder("hibernate.session.flushes")
+                            .description("Flushes por sessão (requisição)")
+                            .register(registry),
+                    Timer.builder("hibernate.session.jdbc.time")
+                            .description("Tempo total em execução JDBC por sessão (requisição)")
+                            .publishPercentileHistogram()
+                            .register(registry),
+                    Counter.builder("hibernate.session.slow.statements")
+                            .description("Statements acima do limite de hibernate.log_slow_query")
+                            .register(registry),
+                    slowThreshold.toNanos());
+        }
+    }
+
+    private record Meters(DistributionSummary statements, DistributionSummary flushes, Timer jdbcTime,
+                          Counter slowStatements, long slowThresholdNanos) {
+    }
+}
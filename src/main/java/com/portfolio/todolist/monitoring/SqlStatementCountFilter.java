@@ -0,0 +1,172 @@
+package com.portfolio.todolist.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Conta os statements SQL de cada requisição (detector de N+1): métrica por endpoint
+// (http.server.requests.sql.statements, tags method/uri), aviso no log acima do limite e o total
+// no atributo STATEMENT_COUNT_ATTRIBUTE da requisição (usado pelos testes de orçamento de SQL).
+// Roda antes do Spring Security para incluir as consultas da autenticação. Em respostas assíncronas,
+// soma também o que roda na thread que gera o corpo (exportação) e registra a métrica no fim da resposta.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementCountFilter.class.getName() + ".count";
+
+    private static final String STATEMENTS_ATTRIBUTE = SqlStatementCountFilter.class.getName() + ".statements";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int warnThreshold;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry,
+                                   @Value("${sql.statement-count.enabled:true}") boolean enabled,
+                                   @Value("${sql.statement-count.warn-threshold:10}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    // O despacho assíncrono fecha a contagem das respostas assíncronas
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestStatements statements = (RequestStatements) request.getAttribute(STATEMENTS_ATTRIBUTE);
+        if (statements == null) {
+            statements = new RequestStatements(warnThreshold + 1);
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+            WebAsyncUtils.getAsyncManager(request)
+                    .registerCallableInterceptor(STATEMENTS_ATTRIBUTE, new AsyncStatementCounter(statements, warnThreshold + 1));
+        }
+
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open(warnThreshold + 1);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            statements.add(scope);
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements.count());
+
+            if (!request.isAsyncStarted()) {
+                record(request, statements);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatements statements) {
+        int count = statements.count();
+
+        // Padrão da rota (ex.: /api/tasks/{id}), como em http.server.requests; evita uma série por id
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("Statements SQL por requisição")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > warnThreshold) {
+            log.warn("{} {} executou {} statements SQL (limite {}), possível N+1: {}",
+                    request.getMethod(), uri, count, warnThreshold, statements.sample());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} executou {} statements SQL", request.getMethod(), uri, count);
+        }
+    }
+
+    // Total da requisição somado entre as threads envolvidas (requisição e geração assíncrona do corpo)
+    private static final class RequestStatements {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final List<String> sample = new ArrayList<>();
+        private final int maxSample;
+
+        private RequestStatements(int maxSample) {
+            this.maxSample = maxSample;
+        }
+
+        private void add(SqlStatementCounter.Scope scope) {
+            count.addAndGet(scope.count());
+
+            synchronized (sample) {
+                for (String sql : scope.statements()) {
+                    if (sample.size() >= maxSample) {
+                        break;
+                    }
+                    sample.add(sql);
+                }
+            }
+        }
+
+        private int count() {
+            return count.get();
+        }
+
+        private List<String> sample() {
+            synchronized (sample) {
+                return List.copyOf(sample);
+            }
+        }
+    }
+
+    // Abre um escopo na thread que executa o corpo assíncrono (StreamingResponseBody, Callable)
+    private static final class AsyncStatementCounter implements CallableProcessingInterceptor {
+
+        private final RequestStatements statements;
+        private final int maxSample;
+        private SqlStatementCounter.Scope scope;
+
+        private AsyncStatementCounter(RequestStatements statements, int maxSample) {
+            this.statements = statements;
+            this.maxSample = maxSample;
+        }
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            scope = SqlStatementCounter.open(maxSample);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            if (scope != null) {
+                scope.close();
+                statements.add(scope);
+                scope = null;
+            }
+        }
+    }
+}
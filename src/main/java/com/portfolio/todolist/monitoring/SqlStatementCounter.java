@@ -0,0 +1,89 @@
+package com.portfolio.todolist.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Conta os statements SQL que o Hibernate envia ao banco na thread atual, dentro de um escopo aberto pelo
+// SqlStatementCountFilter (uma requisição). A contagem vem das execuções JDBC (HibernateSessionMetrics: um lote
+// de INSERT/UPDATE conta uma vez); como StatementInspector (hibernate.session_factory.statement_inspector),
+// guarda o texto dos primeiros statements para diagnóstico. O Hibernate cria as instâncias, então o escopo fica
+// em um ThreadLocal estático. Sem escopo aberto, não faz nada.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.sample(sql);
+        }
+        return sql;
+    }
+
+    // Chamado a cada execução JDBC (statement ou lote)
+    static void executed() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.increment();
+        }
+    }
+
+    // Abre um escopo na thread atual (escopos aninhados contam também no escopo externo)
+    public static Scope open(int maxRecordedStatements) {
+        Scope scope = new Scope(CURRENT.get(), maxRecordedStatements);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final int maxRecordedStatements;
+        private final List<String> statements;
+        private int count;
+
+        private Scope(Scope parent, int maxRecordedStatements) {
+            this.parent = parent;
+            this.maxRecordedStatements = maxRecordedStatements;
+            this.statements = new ArrayList<>(Math.min(maxRecordedStatements, 16));
+        }
+
+        private void increment() {
+            count++;
+            if (parent != null) {
+                parent.increment();
+            }
+        }
+
+        private void sample(String sql) {
+            if (statements.size() < maxRecordedStatements) {
+                statements.add(sql);
+            }
+            if (parent != null) {
+                parent.sample(sql);
+            }
+        }
+
+        public int count() {
+            return count;
+        }
+
+        // Primeiros statements preparados (até o limite do escopo), para diagnóstico de N+1
+        public List<String> statements() {
+            return Collections.unmodifiableList(statements);
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
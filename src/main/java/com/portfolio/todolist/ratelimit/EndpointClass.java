@@ -0,0 +1,30 @@
+package com.portfolio.todolist.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// Classes de endpoint com limites próprios (RateLimitProperties; auth é limitada por IP)
+public enum EndpointClass {
+    READ,
+    WRITE,
+    SEARCH,
+    AUTH;
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if (path.startsWith("/api/tasks/search")) {
+            return SEARCH;
+        }
+
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+    }
+
+    // Nome usado nas tags das métricas (ex.: endpoint=search)
+    public String key() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,184 @@
+package com.portfolio.todolist.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.todolist.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Controle de admissão das rotas /api: roda depois do JwtAuthenticationFilter (o usuário já é conhecido).
+// 1. Token bucket por usuário (ou IP, se anônimo) e classe de endpoint -> 429 com Retry-After
+// 2. Limite global de requisições simultâneas, protegendo o pool de conexões -> 503 com Retry-After
+// Os baldes ficam em um cache Caffeine limitado que descarta os ociosos (um balde ocioso já estaria cheio).
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+    private final Semaphore globalPermits;
+    private final Duration maxWait;
+    private final long retryAfterSeconds;
+
+    private final Map<EndpointClass, RateLimitProperties.Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    private final Map<EndpointClass, Counter> allowed = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(JsonMapper jsonMapper,
+                           MeterRegistry meterRegistry,
+                           RateLimitProperties properties) {
+        int maxConcurrent = properties.getGlobal().getMaxConcurrent();
+
+        this.jsonMapper = jsonMapper;
+        this.enabled = properties.isEnabled();
+        this.globalPermits = new Semaphore(maxConcurrent);
+        this.maxWait = properties.getGlobal().getMaxWait();
+        this.retryAfterSeconds = Math.max(1, properties.getGlobal().getRetryAfter().toSeconds());
+
+        long idleNanos = 0;
+        for (EndpointClass endpoint : EndpointClass.values()) {
+            RateLimitProperties.Limit limit = properties.limitFor(endpoint);
+
+            limits.put(endpoint, limit);
+            idleNanos = Math.max(idleNanos, TokenBucket.refillNanos(limit.getCapacity(), limit.getPerSecond()));
+
+            allowed.put(endpoint, decisionCounter(meterRegistry, endpoint, "allowed"));
+            rateLimited.put(endpoint, decisionCounter(meterRegistry, endpoint, "rate_limited"));
+            shed.put(endpoint, decisionCounter(meterRegistry, endpoint, "shed"));
+        }
+
+        // Descartar um balde ocioso por mais que o tempo de reposição completa não altera nenhuma decisão
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofNanos(idleNanos))
+                .build();
+
+        Gauge.builder("http.server.admission.in-flight", globalPermits, permits -> maxConcurrent - permits.availablePermits())
+                .description("Requisições em andamento no limite global de concorrência")
+                .register(meterRegistry);
+        Gauge.builder("http.server.admission.buckets", buckets, Cache::estimatedSize)
+                .description("Token buckets residentes em memória")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpoint = EndpointClass.of(request);
+
+        // 1. Limite por usuário/classe (rejeita o cliente abusivo antes de ocupar uma vaga global)
+        long waitNanos = bucketFor(endpoint, request).tryConsume(System.nanoTime());
+        if (waitNanos > 0) {
+            rateLimited.get(endpoint).increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Limite de requisições excedido",
+                    "Muitas requisições para esta operação, aguarde", Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+            return;
+        }
+
+        // 2. Limite global de concorrência (descarta carga em vez de enfileirar no pool de conexões)
+        if (!acquireGlobalPermit()) {
+            shed.get(endpoint).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Serviço sobrecarregado",
+                    "Servidor no limite de requisições simultâneas, tente novamente", retryAfterSeconds);
+            return;
+        }
+
+        allowed.get(endpoint).increment();
+        try {
+            // Respostas assíncronas (SSE, exportação) liberam a vaga quando a thread da requisição retorna
+            filterChain.doFilter(request, response);
+        } finally {
+            globalPermits.release();
+        }
+    }
+
+    private TokenBucket bucketFor(EndpointClass endpoint, HttpServletRequest request) {
+        BucketKey key = new BucketKey(subject(endpoint, request), endpoint);
+        RateLimitProperties.Limit limit = limits.get(endpoint);
+        return buckets.get(key, k -> new TokenBucket(limit.getCapacity(), limit.getPerSecond(), System.nanoTime()));
+    }
+
+    // Usuário autenticado pelo ID; login/registro e requisições anônimas pelo IP
+    private String subject(EndpointClass endpoint, HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (endpoint != EndpointClass.AUTH && authentication != null
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "u:" + principal.getId();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private boolean acquireGlobalPermit() {
+        if (maxWait.isZero()) {
+            return globalPermits.tryAcquire();
+        }
+
+        try {
+            return globalPermits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Mesmo formato de erro do GlobalExceptionHandler
+    private void reject(HttpServletResponse response, HttpStatus status, String error, String message,
+                        long retryAfter) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", error);
+        body.put("message", message);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static Counter decisionCounter(MeterRegistry registry, EndpointClass endpoint, String outcome) {
+        return Counter.builder("http.server.admission")
+                .description("Decisões do controle de admissão por classe de endpoint")
+                .tag("endpoint", endpoint.key())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record BucketKey(String subject, EndpointClass endpoint) {
+    }
+}
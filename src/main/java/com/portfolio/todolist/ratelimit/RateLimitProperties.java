@@ -0,0 +1,59 @@
+package com.portfolio.todolist.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Limites do controle de admissão (rate-limit.*): os padrões ficam só aqui e podem ser sobrescritos por propriedade,
+// ex.: rate-limit.search.capacity=40 ou rate-limit.global.max-concurrent=200
+@Getter
+@Setter
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Máximo de baldes em memória (os ociosos são descartados antes)
+    private long maxBuckets = 100_000;
+
+    // Por classe de endpoint: rajada e reposição por segundo (a busca é a mais cara para o banco)
+    private Limit read = new Limit(100, 50);
+    private Limit write = new Limit(50, 20);
+    private Limit search = new Limit(20, 5);
+    private Limit auth = new Limit(10, 1);
+
+    private Global global = new Global();
+
+    public Limit limitFor(EndpointClass endpoint) {
+        return switch (endpoint) {
+            case READ -> read;
+            case WRITE -> write;
+            case SEARCH -> search;
+            case AUTH -> auth;
+        };
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        private long capacity;
+        private double perSecond;
+    }
+
+    // Limite global de requisições simultâneas, protegendo o pool de conexões
+    @Getter
+    @Setter
+    public static class Global {
+
+        private int maxConcurrent = 100;
+        private Duration maxWait = Duration.ZERO;
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.todolist.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket lock-free no formato GCRA: o estado inteiro é um único long (instante teórico em que o balde
+// estaria cheio de novo), atualizado por CAS. Equivale a um balde de "capacity" tokens repostos a
+// "tokensPerSecond", sem lock nem thread de reposição.
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    TokenBucket(long capacity, double tokensPerSecond, long now) {
+        this.intervalNanos = (long) (1_000_000_000L / tokensPerSecond);
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    // Consome um token; retorna 0 se permitido ou quantos nanos faltam até haver um token disponível
+    long tryConsume(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long excess = next - now - burstNanos;
+
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Tempo ocioso após o qual o balde está cheio de novo (e pode ser descartado sem mudar o resultado)
+    static long refillNanos(long capacity, double tokensPerSecond) {
+        return (long) (capacity * 1_000_000_000L / tokensPerSecond);
+    }
+}
@@ -0,0 +1,69 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.model.ArchivedTask;
+import com.portfolio.todolist.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    String SELECT_DTO = """
+            select new com.portfolio.todolist.dto.TaskResponseDTO(
+                a.id, a.title, a.description, a.status, a.createdAt, a.updatedAt, a.version, true)
+            from ArchivedTask a
+            """;
+
+    Optional<ArchivedTask> findByIdAndUserId(Long id, Long userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + "where a.id = :id and a.userId = :userId")
+    Optional<TaskResponseDTO> findDtoByIdAndUserId(Long id, Long userId);
+
+    // Paginação keyset com a mesma ordem de tasks (createdAt, id decrescentes), para intercalar as duas tabelas
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + "where a.userId = :userId order by a.createdAt desc, a.id desc")
+    List<TaskResponseDTO> findFirstPage(Long userId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + """
+            where a.userId = :userId
+              and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id))
+            order by a.createdAt desc, a.id desc
+            """)
+    List<TaskResponseDTO> findPageAfter(Long userId, LocalDateTime createdAt, Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + "where a.userId = :userId and a.status = :status order by a.createdAt desc, a.id desc")
+    List<TaskResponseDTO> findFirstPageByStatus(Long userId, TaskStatus status, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + """
+            where a.userId = :userId and a.status = :status
+              and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id))
+            order by a.createdAt desc, a.id desc
+            """)
+    List<TaskResponseDTO> findPageByStatusAfter(Long userId, TaskStatus status, LocalDateTime createdAt, Long id, Limit limit);
+
+    // Restauração: copia o registro de volta para tasks com o mesmo ID (o INSERT do JPA geraria um ID novo
+    // pelo gerador), como uma alteração (nova versão e updatedAt)
+    @Modifying
+    @Query(value = """
+            insert into tasks (id, title, description, status, user_id, created_at, updated_at, version)
+            select a.id, a.title, a.description, a.status, a.user_id, a.created_at, :updatedAt, a.version + 1
+            from tasks_archive a
+            where a.id = :id and a.user_id = :userId
+            """, nativeQuery = true)
+    int copyToTasks(Long id, Long userId, LocalDateTime updatedAt);
+}
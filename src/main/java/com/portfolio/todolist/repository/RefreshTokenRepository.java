@@ -0,0 +1,40 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.model.RefreshToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // Marca o token como usado somente se ainda estiver ativo: em requisições concorrentes com o mesmo token,
+    // apenas uma rotação vence (as demais contam como reuso)
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.id = :id and r.revokedAt is null")
+    int markUsed(Long id, LocalDateTime now);
+
+    // Revoga todos os tokens ainda ativos da família (logout ou reuso detectado)
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.familyId = :familyId and r.revokedAt is null")
+    int revokeFamily(String familyId, LocalDateTime now);
+
+    // Access tokens da família que ainda não expiraram (precisam entrar na lista de revogação)
+    @Query("""
+            select r from RefreshToken r
+            where r.familyId = :familyId and r.accessTokenExpiresAt > :now
+            """)
+    List<RefreshToken> findActiveAccessTokens(String familyId, LocalDateTime now);
+
+    // Expurgo em lotes dos tokens vencidos
+    @Query("select r.id from RefreshToken r where r.expiresAt < :cutoff order by r.expiresAt")
+    List<Long> findIdsExpiredBefore(LocalDateTime cutoff, Limit limit);
+}
@@ -0,0 +1,20 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.model.ReplicaHeartbeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReplicaHeartbeatRepository extends JpaRepository<ReplicaHeartbeat, Long> {
+
+    // UPDATE direto (sem SELECT); retorna 0 enquanto a linha ainda não existe
+    @Transactional
+    @Modifying
+    @Query("update ReplicaHeartbeat h set h.beatAt = :beatAt where h.id = :id")
+    int touch(Long id, LocalDateTime beatAt);
+}
@@ -0,0 +1,26 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.model.RevokedToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // Sincronização da lista em memória: revogações a partir do instante informado, ainda não expiradas
+    @Query("""
+            select r from RevokedToken r
+            where r.revokedAt >= :since and r.expiresAt > :now
+            order by r.revokedAt
+            """)
+    List<RevokedToken> findRevokedSince(LocalDateTime since, LocalDateTime now);
+
+    // Expurgo em lotes das revogações de tokens já expirados
+    @Query("select r.jti from RevokedToken r where r.expiresAt < :cutoff order by r.expiresAt")
+    List<String> findIdsExpiredBefore(LocalDateTime cutoff, Limit limit);
+}
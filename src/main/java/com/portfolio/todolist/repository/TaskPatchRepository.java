@@ -0,0 +1,14 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.dto.TaskPatchRequestDTO;
+
+import java.time.LocalDateTime;
+
+// Fragmento do TaskRepository para atualizações parciais (implementado em TaskPatchRepositoryImpl)
+public interface TaskPatchRepository {
+
+    // UPDATE condicional só com as colunas enviadas, sem SELECT antes:
+    // UPDATE tasks SET ..., version = version + 1 WHERE id = ? AND user_id = ? AND version = ?
+    // Retorna o número de linhas alteradas (0 = versão diferente ou tarefa inexistente/de outro usuário)
+    int patch(Long id, Long userId, TaskPatchRequestDTO changes, LocalDateTime updatedAt);
+}
@@ -0,0 +1,47 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.dto.TaskPatchRequestDTO;
+import com.portfolio.todolist.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patch(Long id, Long userId, TaskPatchRequestDTO changes, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        if (changes.getTitle() != null) {
+            update.set(task.<String>get("title"), changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            update.set(task.<String>get("description"), changes.getDescription().isEmpty() ? null : changes.getDescription());
+        }
+        if (changes.getStatus() != null) {
+            update.set(task.get("status"), changes.getStatus());
+        }
+
+        // Atualização em massa não passa pelo @UpdateTimestamp nem pelo @Version: ambos são definidos aqui
+        update.set(task.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(task.<Long>get("version"), cb.sum(task.<Long>get("version"), 1L));
+
+        update.where(
+                cb.equal(task.get("id"), id),
+                cb.equal(task.get("user").get("id"), userId),
+                cb.equal(task.get("version"), changes.getVersion()));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,85 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.model.Task;
+import com.portfolio.todolist.model.TaskStatus;
+import com.portfolio.todolist.stats.TaskStatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Camada de leitura: projeta direto em TaskResponseDTO (sem entidades, proxies ou snapshots de dirty checking)
+@Repository
+@Transactional(readOnly = true)
+public interface TaskQueryRepository extends org.springframework.data.repository.Repository<Task, Long> {
+
+    String SELECT_DTO = """
+            select new com.portfolio.todolist.dto.TaskResponseDTO(
+                t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version)
+            from Task t
+            """;
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + "where t.id = :id and t.user.id = :userId")
+    Optional<TaskResponseDTO> findByIdAndUserId(Long id, Long userId);
+
+    // Paginação keyset: primeira página ordenada por (createdAt, id) decrescente
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + "where t.user.id = :userId order by t.createdAt desc, t.id desc")
+    List<TaskResponseDTO> findFirstPage(Long userId, Limit limit);
+
+    // Paginação keyset: páginas seguintes, a partir da posição do cursor (sem OFFSET)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + """
+            where t.user.id = :userId
+              and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id))
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TaskResponseDTO> findPageAfter(Long userId, LocalDateTime createdAt, Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + "where t.user.id = :userId and t.status = :status order by t.createdAt desc, t.id desc")
+    List<TaskResponseDTO> findFirstPageByStatus(Long userId, TaskStatus status, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + """
+            where t.user.id = :userId and t.status = :status
+              and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id))
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TaskResponseDTO> findPageByStatusAfter(Long userId, TaskStatus status, LocalDateTime createdAt, Long id, Limit limit);
+
+    // Leitura completa por cursor no servidor (exportação e bootstrap do índice de busca)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_DTO + "where t.user.id = :userId order by t.id")
+    Stream<TaskResponseDTO> streamByUserId(Long userId);
+
+    // Contagem por status direto da tabela tasks (bootstrap e reconciliação dos contadores)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("""
+            select new com.portfolio.todolist.stats.TaskStatusCount(t.user.id, t.status, count(t))
+            from Task t
+            where t.user.id in :userIds
+            group by t.user.id, t.status
+            """)
+    List<TaskStatusCount> countByStatus(Collection<Long> userIds);
+
+    // Sincronização incremental: tarefas criadas ou alteradas a partir do instante informado
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SELECT_DTO + "where t.user.id = :userId and t.updatedAt >= :since order by t.updatedAt, t.id")
+    List<TaskResponseDTO> findChangedSince(Long userId, LocalDateTime since, Limit limit);
+}
\ No newline at end of file
@@ -3,14 +3,20 @@ package com.portfolio.todolist.repository;
 import com.portfolio.todolist.model.Task;
 import com.portfolio.todolist.model.TaskStatus;
 import com.portfolio.todolist.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskPatchRepository {
 
     // NOVOS: Buscar por usuário
     List<Task> findByUser(User user);
@@ -21,8 +27,31 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     Optional<Task> findByIdAndUser(Long id, User user);
 
+    // Operações em lote: carrega todas as tarefas do usuário com os IDs informados em uma consulta
+    List<Task> findByUserAndIdIn(User user, Collection<Long> ids);
+
+    // Arquivamento: primeiro lote de tarefas com o status alteradas antes do corte, em ordem (updatedAt, id),
+    // bloqueadas até o fim da transação (uma edição concorrente espera e depois não encontra mais a tarefa)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select t from Task t
+            where t.status = :status and t.updatedAt < :cutoff
+            order by t.updatedAt, t.id
+            """)
+    List<Task> findFirstToArchive(TaskStatus status, LocalDateTime cutoff, Limit limit);
+
+    // Arquivamento: lotes seguintes, a partir da última tarefa do lote anterior
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select t from Task t
+            where t.status = :status and t.updatedAt < :cutoff
+              and (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id))
+            order by t.updatedAt, t.id
+            """)
+    List<Task> findToArchiveAfter(TaskStatus status, LocalDateTime cutoff, LocalDateTime updatedAt, Long id, Limit limit);
+
     // Antigos (podem remover se quiser)
     List<Task> findByStatus(TaskStatus status);
 
     List<Task> findByTitleContainingIgnoreCase(String title);
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    // Sincronização: IDs removidos a partir do instante informado
+    @Query("""
+            select t.taskId from TaskTombstone t
+            where t.userId = :userId and t.deletedAt >= :since
+            order by t.deletedAt, t.taskId
+            """)
+    List<Long> findDeletedSince(Long userId, LocalDateTime since, Limit limit);
+
+    // Expurgo em lotes dos tombstones fora da janela de retenção
+    @Query("select t.taskId from TaskTombstone t where t.deletedAt < :cutoff order by t.deletedAt")
+    List<Long> findIdsDeletedBefore(LocalDateTime cutoff, Limit limit);
+}
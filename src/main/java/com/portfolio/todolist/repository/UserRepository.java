@@ -1,9 +1,13 @@
 package com.portfolio.todolist.repository;
 
 import com.portfolio.todolist.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +20,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
+
+    // Atualiza apenas o hash da senha (rehash no login)
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(String username, String password);
+
+    // IDs em ordem crescente, a partir de um ID (percorre os usuários em lotes nos jobs de manutenção)
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
 }
\ No newline at end of file
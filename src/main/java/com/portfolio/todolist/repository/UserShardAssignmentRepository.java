@@ -0,0 +1,42 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.model.UserShardAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface UserShardAssignmentRepository extends JpaRepository<UserShardAssignment, Long> {
+
+    // Reserva a migração: só se o usuário ainda estiver no shard de origem e sem outra migração em andamento
+    @Transactional
+    @Modifying
+    @Query("""
+            update UserShardAssignment a set a.targetShard = :target, a.updatedAt = :now
+            where a.userId = :userId and a.shard = :source and a.targetShard is null
+            """)
+    int beginMigration(Long userId, String source, String target, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update UserShardAssignment a set a.shard = a.targetShard, a.targetShard = null, a.updatedAt = :now
+            where a.userId = :userId and a.targetShard = :target
+            """)
+    int completeMigration(Long userId, String target, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update UserShardAssignment a set a.targetShard = null, a.updatedAt = :now where a.userId = :userId")
+    int abortMigration(Long userId, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserShardAssignment a where a.userId in :userIds and a.targetShard is null")
+    int deleteSettled(Collection<Long> userIds);
+}
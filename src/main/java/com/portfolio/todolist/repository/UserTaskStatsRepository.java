@@ -0,0 +1,52 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.model.UserTaskStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserTaskStatsRepository extends JpaRepository<UserTaskStats, Long> {
+
+    // Incremento atômico no próprio banco (sem ler o valor atual); retorna 0 se o usuário ainda não tem resumo
+    @Modifying
+    @Query("""
+            update UserTaskStats s
+            set s.pending = s.pending + :pending,
+                s.inProgress = s.inProgress + :inProgress,
+                s.completed = s.completed + :completed,
+                s.updatedAt = local datetime
+            where s.userId = :userId
+            """)
+    int applyDelta(Long userId, long pending, long inProgress, long completed);
+
+    // Primeiro acesso do usuário: cria o resumo com a contagem real de tasks (que já inclui a alteração da transação).
+    // Se outra transação criou o resumo nesse meio-tempo, o INSERT vira o incremento desta (sem violar a PK)
+    @Modifying
+    @Query(value = """
+            insert into user_task_stats (user_id, pending, in_progress, completed, updated_at)
+            select :userId,
+                   coalesce(sum(case when t.status = 'PENDING' then 1 else 0 end), 0),
+                   coalesce(sum(case when t.status = 'IN_PROGRESS' then 1 else 0 end), 0),
+                   coalesce(sum(case when t.status = 'COMPLETED' then 1 else 0 end), 0),
+                   current_timestamp
+            from tasks t
+            where t.user_id = :userId
+            on duplicate key update
+                pending = pending + :pending,
+                in_progress = in_progress + :inProgress,
+                completed = completed + :completed,
+                updated_at = current_timestamp
+            """, nativeQuery = true)
+    int insertCountedOrApplyDelta(Long userId, long pending, long inProgress, long completed);
+
+    // Reconciliação: bloqueia os resumos do lote para que nenhum incremento se perca durante a recontagem
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<UserTaskStats> findByUserIdIn(Collection<Long> userIds);
+}
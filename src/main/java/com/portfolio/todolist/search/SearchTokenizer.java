@@ -0,0 +1,63 @@
+package com.portfolio.todolist.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Normalização e tokenização usadas pelo índice de busca (sem acentos, minúsculas)
+public final class SearchTokenizer {
+
+    public static final int GRAM_SIZE = 3;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    // "Reunião às 10h" -> "reuniao as 10h"
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // Termos (palavras) de um texto já normalizado, na ordem em que aparecem
+    public static Set<String> tokens(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+
+        Arrays.stream(SEPARATORS.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .forEach(tokens::add);
+
+        return tokens;
+    }
+
+    // Trigramas de cada termo; permitem localizar ocorrências de substrings sem varrer os documentos
+    public static Set<String> trigrams(Set<String> tokens) {
+        Set<String> grams = new HashSet<>();
+
+        for (String token : tokens) {
+            grams.addAll(trigrams(token));
+        }
+
+        return grams;
+    }
+
+    public static Set<String> trigrams(String token) {
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM_SIZE));
+        }
+
+        return grams;
+    }
+}
@@ -0,0 +1,7 @@
+package com.portfolio.todolist.search;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+
+// Resultado da busca com a pontuação de relevância
+public record TaskSearchHit(TaskResponseDTO task, int score) {
+}
@@ -0,0 +1,80 @@
+package com.portfolio.todolist.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.todolist.event.TaskChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// Índice de busca em memória particionado por usuário, mantido de forma incremental pelos eventos do TaskService.
+// O limite é em documentos indexados (peso de cada partição), não em usuários: poucas contas grandes não esgotam o heap.
+// Cada documento guarda o DTO completo para a busca responder sem consultar o banco; com o peso limitado, a memória
+// residente fica proporcional a tasks.search.max-documents (DTO + textos normalizados + trigramas por tarefa)
+@Component
+public class TaskSearchIndex {
+
+    private final TaskSearchIndexLoader loader;
+    private final Cache<Long, UserSearchPartition> partitions;
+
+    // Partição maior que o limite inteiro não fica residente: cada busca do usuário volta a lê-la do banco
+    public TaskSearchIndex(TaskSearchIndexLoader loader,
+                           @Value("${tasks.search.max-documents:200000}") long maxDocuments) {
+        this.loader = loader;
+        this.partitions = Caffeine.newBuilder()
+                .maximumWeight(maxDocuments)
+                .weigher((Long userId, UserSearchPartition partition) -> Math.max(1, partition.size()))
+                .build();
+    }
+
+    // Busca ranqueada por relevância; na primeira busca do usuário o índice é montado a partir do banco
+    public List<TaskSearchHit> search(Long userId, String query) {
+        UserSearchPartition partition = partitions.get(userId, id -> new UserSearchPartition());
+
+        if (partition.ensureLoaded(consumer -> loader.load(userId, consumer))) {
+            reweigh(userId, partition);
+        }
+
+        return partition.search(query);
+    }
+
+    // Após o commit: só atualiza partições já carregadas (as demais serão lidas do banco quando necessário)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        UserSearchPartition partition = partitions.getIfPresent(event.userId());
+
+        if (partition == null) {
+            return;
+        }
+
+        if (event.removesTask()) {
+            partition.remove(event.taskId());
+        } else {
+            partition.upsert(event.task());
+        }
+
+        reweigh(event.userId(), partition);
+    }
+
+    // Descarta o índice do usuário; a próxima busca o reconstrói a partir do banco
+    public void rebuild(Long userId) {
+        partitions.invalidate(userId);
+    }
+
+    public void rebuildAll() {
+        partitions.invalidateAll();
+    }
+
+    // Documentos indexados residentes (soma dos pesos)
+    long residentDocuments() {
+        partitions.cleanUp();
+        return partitions.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+    }
+
+    // O Caffeine só calcula o peso ao gravar: regrava a mesma partição depois que ela cresce ou encolhe
+    private void reweigh(Long userId, UserSearchPartition partition) {
+        partitions.asMap().replace(userId, partition, partition);
+    }
+}
@@ -0,0 +1,25 @@
+package com.portfolio.todolist.search;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.repository.TaskQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Bootstrap do índice: percorre as tarefas do usuário por cursor, projetadas direto em DTO
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndexLoader {
+
+    private final TaskQueryRepository taskQueryRepository;
+
+    @Transactional(readOnly = true)
+    public void load(Long userId, Consumer<TaskResponseDTO> consumer) {
+        try (Stream<TaskResponseDTO> tasks = taskQueryRepository.streamByUserId(userId)) {
+            tasks.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.portfolio.todolist.search;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Índice invertido (trigramas) das tarefas de um único usuário
+class UserSearchPartition {
+
+    // Relevância: mesma ordem em que os resultados são paginados
+    static final Comparator<TaskSearchHit> RANKING = Comparator
+            .comparingInt(TaskSearchHit::score).reversed()
+            .thenComparing(hit -> hit.task().getCreatedAt(), Comparator.reverseOrder())
+            .thenComparing(hit -> hit.task().getId(), Comparator.reverseOrder());
+
+    private static final int EXACT_TITLE_TERM = 3;
+    private static final int TITLE_MATCH = 2;
+    private static final int DESCRIPTION_MATCH = 1;
+    private static final int TITLE_PHRASE_BONUS = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedTask> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    // Carrega as tarefas do banco uma única vez (demais chamadas apenas aguardam); true para quem fez a carga
+    boolean ensureLoaded(Consumer<Consumer<TaskResponseDTO>> loader) {
+        if (loaded) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return false;
+            }
+            loader.accept(this::upsertUnlocked);
+            loaded = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void upsert(TaskResponseDTO task) {
+        lock.writeLock().lock();
+        try {
+            upsertUnlocked(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<TaskSearchHit> search(String query) {
+        String normalizedQuery = SearchTokenizer.normalize(query).trim();
+        Set<String> terms = SearchTokenizer.tokens(normalizedQuery);
+
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<TaskSearchHit> hits = new ArrayList<>();
+
+            for (IndexedTask document : candidates(terms)) {
+                int score = score(document, terms, normalizedQuery);
+
+                if (score > 0) {
+                    hits.add(new TaskSearchHit(document.task(), score));
+                }
+            }
+
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    // Interseção das listas de trigramas; termos curtos (< 3) exigem verificar todos os documentos
+    private Collection<IndexedTask> candidates(Set<String> terms) {
+        Set<Long> candidateIds = null;
+
+        for (String term : terms) {
+            for (String gram : SearchTokenizer.trigrams(term)) {
+                Set<Long> posting = postings.getOrDefault(gram, Set.of());
+
+                if (candidateIds == null) {
+                    candidateIds = new HashSet<>(posting);
+                } else {
+                    candidateIds.retainAll(posting);
+                }
+
+                if (candidateIds.isEmpty()) {
+                    return List.of();
+                }
+            }
+        }
+
+        if (candidateIds == null) {
+            return documents.values();
+        }
+
+        List<IndexedTask> candidates = new ArrayList<>(candidateIds.size());
+        for (Long id : candidateIds) {
+            candidates.add(documents.get(id));
+        }
+
+        return candidates;
+    }
+
+    // Todos os termos precisam ocorrer no título ou na descrição (equivalente ao antigo LIKE %termo%)
+    private int score(IndexedTask document, Set<String> terms, String normalizedQuery) {
+        int score = 0;
+
+        for (String term : terms) {
+            if (document.titleTokens().contains(term)) {
+                score += EXACT_TITLE_TERM;
+            } else if (document.title().contains(term)) {
+                score += TITLE_MATCH;
+            } else if (document.description().contains(term)) {
+                score += DESCRIPTION_MATCH;
+            } else {
+                return 0;
+            }
+        }
+
+        if (terms.size() > 1 && document.title().contains(normalizedQuery)) {
+            score += TITLE_PHRASE_BONUS;
+        }
+
+        return score;
+    }
+
+    private void upsertUnlocked(TaskResponseDTO task) {
+        removeUnlocked(task.getId());
+
+        String title = SearchTokenizer.normalize(task.getTitle());
+        String description = SearchTokenizer.normalize(task.getDescription());
+        Set<String> titleTokens = SearchTokenizer.tokens(title);
+
+        Set<String> grams = SearchTokenizer.trigrams(titleTokens);
+        grams.addAll(SearchTokenizer.trigrams(SearchTokenizer.tokens(description)));
+
+        IndexedTask document = new IndexedTask(task, title, description, titleTokens, grams);
+        documents.put(task.getId(), document);
+
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(task.getId());
+        }
+    }
+
+    private void removeUnlocked(Long taskId) {
+        IndexedTask previous = documents.remove(taskId);
+
+        if (previous == null) {
+            return;
+        }
+
+        for (String gram : previous.grams()) {
+            Set<Long> posting = postings.get(gram);
+
+            if (posting != null && posting.remove(taskId) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private record IndexedTask(TaskResponseDTO task, String title, String description,
+                               Set<String> titleTokens, Set<String> grams) {
+    }
+}
@@ -1,5 +1,8 @@
 package com.portfolio.todolist.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,6 +23,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final UserPrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -30,17 +35,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Extrai o token do header Authorization
             String jwt = getJwtFromRequest(request);
 
-            // 2. Valida o token e autentica o usuário
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            // 2. Valida o token (uma única verificação) e autentica o usuário
+            Claims claims = StringUtils.hasText(jwt) ? verify(jwt) : null;
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (claims != null) {
+                UserPrincipal principal = resolvePrincipal(claims);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                principal.getAuthorities()
                         );
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -54,6 +59,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Valida assinatura/expiração e recusa tokens revogados (logout/sessão comprometida; checagem em memória,
+    // mesmo para claims do cache). Tempo registrado em security.jwt.verify por resultado
+    private Claims verify(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "invalid";
+
+        try {
+            Claims claims = tokenProvider.parseClaims(jwt).orElse(null);
+            if (claims == null) {
+                return null;
+            }
+            if (revocationList.isRevoked(claims.getId())) {
+                result = "revoked";
+                return null;
+            }
+            result = "valid";
+            return claims;
+        } finally {
+            sample.stop(meterRegistry.timer("security.jwt.verify", "result", result));
+        }
+    }
+
+    // Monta o principal a partir das claims; só consulta o banco (via cache) para tokens sem a claim "uid"
+    private UserPrincipal resolvePrincipal(Claims claims) {
+        String username = claims.getSubject();
+        Long userId = tokenProvider.getUserIdFromClaims(claims);
+
+        if (userId != null) {
+            return UserPrincipal.fromToken(userId, username);
+        }
+
+        return principalCache.get(username, userDetailsService::loadUserByUsername);
+    }
+
     // Extrai o token do header "Authorization: Bearer <token>"
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
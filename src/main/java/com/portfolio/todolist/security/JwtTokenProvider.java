@@ -2,6 +2,8 @@ package com.portfolio.todolist.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,59 +11,117 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    // Claim com o ID do usuário (dispensa a busca na tabela users a cada requisição)
+    public static final String USER_ID_CLAIM = "uid";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    // Chave e parser são imutáveis e thread-safe: criados uma única vez
+    private SecretKey key;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+    }
+
     // Gera o token JWT
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return issueAccessToken((UserDetails) authentication.getPrincipal()).token();
+    }
+
+    // Emite um access token de curta duração com "jti" único (usado na revogação)
+    public AccessToken issueAccessToken(UserDetails userDetails) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        String jti = UUID.randomUUID().toString();
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        JwtBuilder builder = Jwts.builder()
+                .id(jti)
+                .subject(userDetails.getUsername());
 
-        return Jwts.builder()
-                .subject(userDetails.getUsername())
+        if (userDetails instanceof UserPrincipal principal) {
+            builder.claim(USER_ID_CLAIM, principal.getId());
+        }
+
+        String token = builder
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
+
+        return new AccessToken(token, jti, expiryDate.toInstant());
+    }
+
+    // Validade do access token em segundos (campo "expiresIn" da resposta)
+    public long getExpirationSeconds() {
+        return jwtExpiration / 1000;
+    }
+
+    // Valida o token uma única vez e retorna as claims (tokens repetidos vêm do cache).
+    // Tokens sem "jti" são rejeitados: não poderiam ser revogados (TokenRevocationList)
+    public Optional<Claims> parseClaims(String token) {
+        String digest = VerifiedTokenCache.digest(token);
+
+        Claims cached = verifiedTokenCache.get(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getId() == null || claims.getId().isBlank()) {
+                return Optional.empty();
+            }
+
+            verifiedTokenCache.put(digest, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     // Extrai o username do token
     public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Token JWT inválido"));
+    }
 
-        return claims.getSubject();
+    // Extrai o ID do usuário (null para tokens emitidos antes da claim existir)
+    public Long getUserIdFromClaims(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId != null ? userId.longValue() : null;
     }
 
     // Valida o token
     public boolean validateToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        return parseClaims(token).isPresent();
+    }
 
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+    // Remove o token do cache de verificação (ex.: após o logout)
+    public void evict(String token) {
+        verifiedTokenCache.invalidate(VerifiedTokenCache.digest(token));
+    }
 
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+    public record AccessToken(String token, String jti, Instant expiresAt) {
     }
-}
\ No newline at end of file
+}
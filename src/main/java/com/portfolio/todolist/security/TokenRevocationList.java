@@ -0,0 +1,153 @@
+package com.portfolio.todolist.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Lista de access tokens revogados (por "jti"), consultada a cada requisição sem acesso ao banco:
+// um bloom filter descarta quase todos os tokens válidos e só os positivos vão ao conjunto exato.
+// Cada entrada vive até o "exp" do próprio token; depois disso o token já é rejeitado pela assinatura.
+@Component
+public class TokenRevocationList {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // Revogações adicionam ao filtro atual (leitura); a reconstrução troca o filtro (escrita)
+    private final ReadWriteLock filterLock = new ReentrantReadWriteLock();
+
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(@Value("${security.revocation.expected-entries:100000}") int expectedEntries,
+                               @Value("${security.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    // Caminho quente (JwtAuthenticationFilter). Tokens sem "jti" já são rejeitados na validação
+    // (JwtTokenProvider.parseClaims); se algum chegar aqui, é tratado como revogado
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return true;
+        }
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // Revoga o token até a sua expiração (idempotente)
+    public void revoke(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+
+        revoked.merge(jti, expiresAtMillis, Math::max);
+
+        filterLock.readLock().lock();
+        try {
+            filter.add(jti);
+        } finally {
+            filterLock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // Remove as entradas de tokens já expirados e reconstrói o filtro (bloom filters não suportam remoção);
+    // o novo filtro é dimensionado para o volume atual, mantendo a taxa de falsos positivos
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        filterLock.writeLock().lock();
+        try {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::add);
+            filter = rebuilt;
+        } finally {
+            filterLock.writeLock().unlock();
+        }
+
+        return before - revoked.size();
+    }
+
+    // Bloom filter lock-free sobre um AtomicLongArray (k posições por double hashing de um hash de 64 bits)
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedEntries, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.max(1, (bits + 63) / 64);
+
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = wordCount * 64L;
+            this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        void add(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+
+                long current = words.get(word);
+                while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                    current = words.get(word);
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a de 64 bits seguido do finalizador do MurmurHash3 (espalha bem UUIDs em texto)
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.portfolio.todolist.security;
+
+import com.portfolio.todolist.model.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+// Principal autenticado: carrega o ID do usuário para evitar consultas à tabela users
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String password; // Ausente quando o principal vem do token
+
+    public UserPrincipal(Long id, String username, String email, String password) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.password = password;
+    }
+
+    // Principal completo (login): inclui o hash da senha para verificação
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getUsername(), user.getEmail(), user.getPassword());
+    }
+
+    // Principal reconstruído a partir das claims do JWT, sem acesso ao banco
+    public static UserPrincipal fromToken(Long id, String username) {
+        return new UserPrincipal(id, username, null, null);
+    }
+
+    // Cópia sem credenciais, segura para manter em cache
+    public UserPrincipal withoutCredentials() {
+        return new UserPrincipal(id, username, email, null);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(); // Lista vazia de roles (permissões)
+    }
+}
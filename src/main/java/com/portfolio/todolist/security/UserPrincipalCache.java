@@ -0,0 +1,39 @@
+package com.portfolio.todolist.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// Cache limitado de principals (sem senha) para os casos que ainda precisam do usuário completo
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserPrincipal> entries;
+
+    public UserPrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${security.principal-cache.ttl-ms:300000}") long ttlMillis) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    // Busca no cache ou carrega (e armazena) usando o loader informado; leituras simultâneas do mesmo usuário
+    // aguardam uma única carga
+    public UserPrincipal get(String username, Function<String, UserPrincipal> loader) {
+        return entries.get(username, key -> loader.apply(key).withoutCredentials());
+    }
+
+    // Hooks de invalidação (ex.: alteração de senha, e-mail ou remoção do usuário)
+    public void invalidate(String username) {
+        entries.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+}
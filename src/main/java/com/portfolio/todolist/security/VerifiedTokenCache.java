@@ -0,0 +1,68 @@
+package com.portfolio.todolist.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+// Cache limitado de tokens já verificados (chave = SHA-256 do token, válido até o "exp")
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Claims> entries;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, Claims>writing((digest, claims) -> untilExpiration(claims)))
+                .build();
+    }
+
+    // Retorna as claims verificadas ou null se ausente/expirado
+    public Claims get(String digest) {
+        return entries.getIfPresent(digest);
+    }
+
+    // Armazena claims verificadas até a expiração do próprio token
+    public void put(String digest, Claims claims) {
+        // Tokens sem "exp" (ou já expirados) não são cacheados
+        if (untilExpiration(claims).isPositive()) {
+            entries.put(digest, claims);
+        }
+    }
+
+    public void invalidate(String digest) {
+        entries.invalidate(digest);
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private static Duration untilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null
+                ? Duration.ofMillis(expiration.getTime() - System.currentTimeMillis())
+                : Duration.ZERO;
+    }
+
+    // Gera a chave do cache sem manter o token original em memória
+    public static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
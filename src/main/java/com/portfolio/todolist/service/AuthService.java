@@ -2,11 +2,15 @@ package com.portfolio.todolist.service;
 
 import com.portfolio.todolist.dto.AuthResponseDTO;
 import com.portfolio.todolist.dto.LoginRequestDTO;
+import com.portfolio.todolist.dto.RefreshTokenRequestDTO;
 import com.portfolio.todolist.dto.RegisterRequestDTO;
 import com.portfolio.todolist.model.User;
 import com.portfolio.todolist.repository.UserRepository;
 import com.portfolio.todolist.security.JwtTokenProvider;
+import com.portfolio.todolist.security.UserPrincipal;
+import com.portfolio.todolist.security.UserPrincipalCache;
 import com.portfolio.todolist.exception.DataConflictException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,12 +21,16 @@ import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "auth.service", description = "Operações do serviço de autenticação")
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final UserPrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService revocationService;
 
     // Registrar novo usuário
     public AuthResponseDTO register(RegisterRequestDTO registerDTO) {
@@ -43,20 +51,17 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(registerDTO.getPassword())); // Criptografa a senha
 
         userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
 
-        // Autentica automaticamente após registro
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        registerDTO.getUsername(),
-                        registerDTO.getPassword()
-                )
-        );
+        // Autentica automaticamente após registro: a senha acabou de ser definida, então o token é emitido
+        // direto a partir do usuário salvo (sem uma segunda verificação BCrypt)
+        UserPrincipal principal = UserPrincipal.from(user).withoutCredentials();
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        String token = tokenProvider.generateToken(authentication);
-
-        return new AuthResponseDTO(token, user.getUsername(), user.getEmail());
+        return toResponse(refreshTokenService.issue(principal), principal);
     }
 
     // Login
@@ -70,11 +75,32 @@ public class AuthService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        String token = tokenProvider.generateToken(authentication);
+        // O principal autenticado já traz os dados do usuário (sem nova consulta)
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+
+        return toResponse(refreshTokenService.issue(principal), principal);
+    }
+
+    // Renovação: troca o refresh token (rotação) por um novo par de tokens
+    public AuthResponseDTO refresh(RefreshTokenRequestDTO refreshDTO) {
+        RefreshTokenService.TokenPair tokens = refreshTokenService.rotate(refreshDTO.getRefreshToken());
+        return toResponse(tokens, tokens.principal());
+    }
 
-        User user = userRepository.findByUsername(loginDTO.getUsername())
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+    // Logout: encerra a sessão do refresh token e revoga o access token atual (se informado e ainda válido)
+    public void logout(RefreshTokenRequestDTO logoutDTO, String accessToken) {
+        refreshTokenService.revoke(logoutDTO.getRefreshToken());
+
+        if (accessToken != null) {
+            tokenProvider.parseClaims(accessToken).ifPresent(claims -> {
+                revocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+                tokenProvider.evict(accessToken);
+            });
+        }
+    }
 
-        return new AuthResponseDTO(token, user.getUsername(), user.getEmail());
+    private AuthResponseDTO toResponse(RefreshTokenService.TokenPair tokens, UserPrincipal principal) {
+        return new AuthResponseDTO(tokens.accessToken().token(), tokenProvider.getExpirationSeconds(),
+                tokens.refreshToken(), principal.getUsername(), principal.getEmail());
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.repository.RefreshTokenRepository;
+import com.portfolio.todolist.repository.RevokedTokenRepository;
+import com.portfolio.todolist.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Job periódico que remove refresh tokens vencidos e revogações de access tokens já expirados (banco e memória)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationList revocationList;
+
+    @Value("${security.token-purge.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${security.token-purge.initial-delay-ms:60000}",
+            fixedDelayString = "${security.token-purge.interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now();
+
+        int inMemory = revocationList.purgeExpired();
+        long refreshTokens = purge(limit -> refreshTokenRepository.findIdsExpiredBefore(cutoff, limit),
+                refreshTokenRepository::deleteAllByIdInBatch);
+        long revokedTokens = purge(limit -> revokedTokenRepository.findIdsExpiredBefore(cutoff, limit),
+                revokedTokenRepository::deleteAllByIdInBatch);
+
+        if (inMemory + refreshTokens + revokedTokens > 0) {
+            log.info("Expurgo de tokens: {} refresh token(s), {} revogação(ões) no banco e {} em memória",
+                    refreshTokens, revokedTokens, inMemory);
+        }
+    }
+
+    private <ID> long purge(Function<Limit, List<ID>> finder, Consumer<List<ID>> deleter) {
+        long purged = 0;
+
+        List<ID> ids;
+        do {
+            ids = finder.apply(Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                deleter.accept(ids);
+                purged += ids.size();
+            }
+        } while (ids.size() == batchSize);
+
+        return purged;
+    }
+}
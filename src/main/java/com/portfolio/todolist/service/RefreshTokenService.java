@@ -0,0 +1,112 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.exception.InvalidTokenException;
+import com.portfolio.todolist.model.RefreshToken;
+import com.portfolio.todolist.model.User;
+import com.portfolio.todolist.repository.RefreshTokenRepository;
+import com.portfolio.todolist.repository.UserRepository;
+import com.portfolio.todolist.security.JwtTokenProvider;
+import com.portfolio.todolist.security.UserPrincipal;
+import com.portfolio.todolist.security.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.UUID;
+
+// Emissão e rotação de refresh tokens: cada uso troca o token por um novo (mesma família) junto com um novo access token.
+// Um token já usado que volta a aparecer indica vazamento: a família inteira e seus access tokens são revogados.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationService revocationService;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    // Novo login: inicia uma família de tokens
+    @Transactional
+    public TokenPair issue(UserPrincipal principal) {
+        return issue(principal, UUID.randomUUID().toString());
+    }
+
+    // Troca o refresh token por um novo par; reuso de token já trocado revoga a família
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public TokenPair rotate(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(VerifiedTokenCache.digest(refreshToken))
+                .orElseThrow(() -> new InvalidTokenException("Refresh token inválido"));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() != null || refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            log.warn("Reuso de refresh token detectado (usuário {}, família {}): sessão revogada",
+                    current.getUserId(), current.getFamilyId());
+            revokeFamily(current.getFamilyId(), now);
+            throw new InvalidTokenException("Refresh token já utilizado ou revogado");
+        }
+
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new InvalidTokenException("Refresh token expirado");
+        }
+
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(() -> new InvalidTokenException("Refresh token inválido"));
+
+        return issue(UserPrincipal.from(user).withoutCredentials(), current.getFamilyId());
+    }
+
+    // Logout: encerra a sessão do refresh token informado (token desconhecido é ignorado)
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(VerifiedTokenCache.digest(refreshToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        refreshTokenRepository.revokeFamily(familyId, now);
+
+        for (RefreshToken token : refreshTokenRepository.findActiveAccessTokens(familyId, now)) {
+            revocationService.revoke(token.getAccessTokenJti(),
+                    token.getAccessTokenExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    private TokenPair issue(UserPrincipal principal, String familyId) {
+        JwtTokenProvider.AccessToken accessToken = tokenProvider.issueAccessToken(principal);
+        String refreshToken = generateOpaqueToken();
+
+        RefreshToken entity = new RefreshToken();
+        entity.setTokenHash(VerifiedTokenCache.digest(refreshToken));
+        entity.setUserId(principal.getId());
+        entity.setFamilyId(familyId);
+        entity.setAccessTokenJti(accessToken.jti());
+        entity.setAccessTokenExpiresAt(LocalDateTime.ofInstant(accessToken.expiresAt(), ZoneId.systemDefault()));
+        entity.setExpiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000));
+        refreshTokenRepository.save(entity);
+
+        return new TokenPair(principal, accessToken, refreshToken);
+    }
+
+    // 256 bits aleatórios em Base64 URL-safe
+    private static String generateOpaqueToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record TokenPair(UserPrincipal principal, JwtTokenProvider.AccessToken accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Marca d'água da sincronização incremental (o cliente já conhece tudo que mudou antes deste instante), serializada como token opaco
+public record SyncToken(LocalDateTime watermark) {
+
+    // Primeira sincronização (sem token): tudo que existe
+    public static final SyncToken INITIAL = new SyncToken(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(watermark.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new SyncToken(LocalDateTime.parse(raw));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Token de sincronização inválido");
+        }
+    }
+}
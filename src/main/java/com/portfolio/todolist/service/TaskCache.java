@@ -0,0 +1,75 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.event.TaskChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Cache das tarefas individuais, com chave (usuário, tarefa): um usuário nunca lê a tarefa de outro pelo cache.
+// Cada faixa de chaves tem uma geração, incrementada a cada alteração confirmada antes de o cache ser atualizado:
+// uma leitura do banco só entra no cache se nenhuma alteração da chave foi confirmada desde o seu início
+@Component
+public class TaskCache {
+
+    public static final String CACHE_NAME = "tasks";
+
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final Cache cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TaskCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache não configurado: " + CACHE_NAME);
+    }
+
+    public Optional<TaskResponseDTO> get(Long userId, Long taskId) {
+        return Optional.ofNullable(cache.get(new Key(userId, taskId), TaskResponseDTO.class));
+    }
+
+    // Geração a capturar antes da leitura no banco (ver putIfUnchanged)
+    public long generation(Long userId, Long taskId) {
+        return generations.get(stripe(new Key(userId, taskId)));
+    }
+
+    // Leitura do banco só entra se não houver valor mais novo (gravado por um commit concorrente) e se nenhuma
+    // alteração foi confirmada desde a geração capturada; se uma for confirmada durante o put, a entrada é descartada
+    public void putIfUnchanged(Long userId, TaskResponseDTO task, long generation) {
+        Key key = new Key(userId, task.getId());
+        int stripe = stripe(key);
+
+        if (generations.get(stripe) != generation) {
+            return;
+        }
+
+        cache.putIfAbsent(key, task);
+        if (generations.get(stripe) != generation) {
+            cache.evict(key);
+        }
+    }
+
+    // Após o commit: criação/edição/restauração sobrescrevem a entrada, remoção e arquivamento a descartam
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Key key = new Key(event.userId(), event.taskId());
+        generations.incrementAndGet(stripe(key));
+
+        if (event.removesTask()) {
+            cache.evict(key);
+        } else {
+            cache.put(key, event.task());
+        }
+    }
+
+    private static int stripe(Key key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Key(Long userId, Long taskId) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.exception.InvalidRequestException;
+import com.portfolio.todolist.search.TaskSearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Posição de paginação keyset sobre (createdAt, id) — precedida da relevância na busca —, serializada como token opaco
+public record TaskCursor(LocalDateTime createdAt, Long id, Integer rank) {
+
+    private static final String SEPARATOR = "|";
+
+    public TaskCursor(LocalDateTime createdAt, Long id) {
+        this(createdAt, id, null);
+    }
+
+    public static TaskCursor of(TaskResponseDTO task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor of(TaskSearchHit hit) {
+        return new TaskCursor(hit.task().getCreatedAt(), hit.task().getId(), hit.score());
+    }
+
+    // Indica se o resultado da busca vem depois desta posição na ordenação por relevância
+    public boolean precedes(TaskSearchHit hit) {
+        int score = rank != null ? rank : Integer.MAX_VALUE;
+
+        if (hit.score() != score) {
+            return hit.score() < score;
+        }
+
+        int byCreatedAt = hit.task().getCreatedAt().compareTo(createdAt);
+        return byCreatedAt < 0 || (byCreatedAt == 0 && hit.task().getId() < id);
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id + (rank != null ? SEPARATOR + rank : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+
+            if (parts.length < 2 || parts.length > 3) {
+                throw new IllegalArgumentException("Formato inválido");
+            }
+
+            return new TaskCursor(
+                    LocalDateTime.parse(parts[0]),
+                    Long.parseLong(parts[1]),
+                    parts.length == 3 ? Integer.valueOf(parts[2]) : null
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Cursor de paginação inválido");
+        }
+    }
+}
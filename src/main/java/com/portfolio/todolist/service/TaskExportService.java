@@ -0,0 +1,50 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.repository.TaskQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Exportação NDJSON em memória constante: lê as tarefas por cursor e escreve linha a linha
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final int NEW_LINE = '\n';
+
+    private final TaskQueryRepository taskQueryRepository;
+    private final JsonMapper jsonMapper;
+
+    // A cada N linhas o buffer de saída é descarregado para o cliente
+    @Value("${tasks.export.flush-interval:500}")
+    private int flushInterval;
+
+    // Projeções em DTO não entram no contexto de persistência: o heap não cresce com o número de linhas
+    @Transactional(readOnly = true)
+    public void exportTasks(Long userId, OutputStream out) throws IOException {
+        long written = 0;
+
+        try (Stream<TaskResponseDTO> tasks = taskQueryRepository.streamByUserId(userId)) {
+            Iterator<TaskResponseDTO> iterator = tasks.iterator();
+
+            while (iterator.hasNext()) {
+                out.write(jsonMapper.writeValueAsBytes(iterator.next()));
+                out.write(NEW_LINE);
+
+                if (++written % flushInterval == 0) {
+                    out.flush();
+                }
+            }
+        }
+
+        out.flush();
+    }
+}
@@ -1,42 +1,130 @@
 package com.portfolio.todolist.service;
 
+import com.portfolio.todolist.datasource.ReadFromReplica;
+import com.portfolio.todolist.datasource.ReadFromReplicaAspect;
+import com.portfolio.todolist.dto.CursorPageDTO;
+import com.portfolio.todolist.dto.TaskBatchItemResultDTO;
+import com.portfolio.todolist.dto.TaskBatchResultDTO;
+import com.portfolio.todolist.dto.TaskBatchUpdateItemDTO;
+import com.portfolio.todolist.dto.TaskChangesDTO;
+import com.portfolio.todolist.dto.TaskPatchRequestDTO;
 import com.portfolio.todolist.dto.TaskRequestDTO;
 import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.dto.TaskStatsDTO;
+import com.portfolio.todolist.event.TaskChangedEvent;
 import com.portfolio.todolist.mapper.TaskMapper;
 import com.portfolio.todolist.model.Task;
 import com.portfolio.todolist.model.TaskStatus;
+import com.portfolio.todolist.model.TaskTombstone;
 import com.portfolio.todolist.model.User;
+import com.portfolio.todolist.repository.ArchivedTaskRepository;
+import com.portfolio.todolist.repository.TaskQueryRepository;
 import com.portfolio.todolist.repository.TaskRepository;
+import com.portfolio.todolist.repository.TaskTombstoneRepository;
 import com.portfolio.todolist.repository.UserRepository;
+import com.portfolio.todolist.exception.DataConflictException;
+import com.portfolio.todolist.exception.InvalidRequestException;
 import com.portfolio.todolist.exception.ResourceNotFoundException;
+import com.portfolio.todolist.search.TaskSearchHit;
+import com.portfolio.todolist.search.TaskSearchIndex;
+import com.portfolio.todolist.security.UserPrincipal;
+import com.portfolio.todolist.sharding.ShardContext;
+import com.portfolio.todolist.sharding.ShardedByUser;
+import com.portfolio.todolist.stats.TaskStatsDelta;
+import com.portfolio.todolist.stats.TaskStatsService;
+import com.portfolio.todolist.stream.TaskEventBus;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@ShardedByUser
 @RequiredArgsConstructor
+@Timed(value = "task.service", description = "Operações do serviço de tarefas")
 public class TaskService {
 
+    // Ordem das listagens (keyset): mais recentes primeiro
+    private static final Comparator<TaskResponseDTO> NEWEST_FIRST = Comparator
+            .comparing(TaskResponseDTO::getCreatedAt)
+            .thenComparing(TaskResponseDTO::getId)
+            .reversed();
+
     private final TaskRepository taskRepository;
+    private final TaskQueryRepository taskQueryRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final TaskExportService taskExportService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatsService taskStatsService;
+    private final TaskVersionTracker taskVersionTracker;
+    private final TaskCache taskCache;
+    private final TaskEventBus taskEventBus;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // Método auxiliar para pegar o usuário autenticado
-    private User getAuthenticatedUser() {
+    @Value("${tasks.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${tasks.pagination.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${tasks.batch.max-size:500}")
+    private int maxBatchSize;
+
+    // Janela de atraso de commit: o token devolvido fica este tempo no passado, para não pular transações lentas
+    @Value("${tasks.sync.commit-lag:10s}")
+    private Duration syncCommitLag;
+
+    @Value("${tasks.sync.max-changes:1000}")
+    private int maxSyncChanges;
+
+    @Value("${tasks.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    // Método auxiliar para pegar o principal autenticado (montado a partir do JWT)
+    private UserPrincipal getAuthenticatedPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
 
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+
+        throw new UsernameNotFoundException("Usuário autenticado não encontrado");
+    }
+
+    // Referência ao usuário autenticado contendo apenas o ID (não executa SELECT na tabela users)
+    private User getAuthenticatedUser() {
+        return userRepository.getReferenceById(getAuthenticatedPrincipal().getId());
     }
 
     // Criar uma nova tarefa
+    @Transactional
     public TaskResponseDTO createTask(TaskRequestDTO requestDTO) {
         User user = getAuthenticatedUser();
 
@@ -44,53 +132,179 @@ public class TaskService {
         task.setStatus(TaskStatus.PENDING);
         task.setUser(user); // Associa a tarefa ao usuário autenticado
 
-        Task savedTask = taskRepository.save(task);
-        return taskMapper.toResponseDTO(savedTask);
+        // Flush para que createdAt/updatedAt já estejam preenchidos na resposta
+        Task savedTask = taskRepository.saveAndFlush(task);
+        TaskResponseDTO responseDTO = taskMapper.toResponseDTO(savedTask);
+        taskStatsService.applyDelta(user.getId(), new TaskStatsDelta().add(savedTask.getStatus()));
+
+        eventPublisher.publishEvent(TaskChangedEvent.created(user.getId(), responseDTO));
+        return responseDTO;
     }
 
-    // Listar todas as tarefas DO USUÁRIO AUTENTICADO
-    public List<TaskResponseDTO> getAllTasks() {
-        User user = getAuthenticatedUser();
+    // ETag das tarefas do usuário no formato negociado (lido ANTES da consulta: nunca associa dados antigos a uma
+    // versão nova); null com tasks.etag.enabled=false
+    public String getTasksETag(MediaType format) {
+        return taskVersionTracker.etag(getAuthenticatedPrincipal().getId(), format);
+    }
 
-        return taskRepository.findByUser(user).stream()
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    // Listar as tarefas DO USUÁRIO AUTENTICADO (paginação keyset, projeção direta em DTO).
+    // Com includeArchived, intercala também as tarefas arquivadas (uma consulta a mais, em tasks_archive)
+    @ReadFromReplica
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskResponseDTO> getAllTasks(String cursor, Integer size, boolean includeArchived) {
+        Long userId = getAuthenticatedPrincipal().getId();
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        TaskCursor position = cursor != null ? TaskCursor.decode(cursor) : null;
+
+        List<TaskResponseDTO> tasks = position == null
+                ? taskQueryRepository.findFirstPage(userId, limit)
+                : taskQueryRepository.findPageAfter(userId, position.createdAt(), position.id(), limit);
+
+        if (includeArchived) {
+            List<TaskResponseDTO> archived = position == null
+                    ? archivedTaskRepository.findFirstPage(userId, limit)
+                    : archivedTaskRepository.findPageAfter(userId, position.createdAt(), position.id(), limit);
+            tasks = merge(tasks, archived, limit.max());
+        }
+
+        return toPage(tasks, pageSize);
     }
 
-    // Buscar tarefa por ID (apenas se pertencer ao usuário)
-    public TaskResponseDTO getTaskById(Long id) {
-        User user = getAuthenticatedUser();
+    // Buscar tarefa por ID (apenas se pertencer ao usuário); sem transação própria para que o acerto no cache não use conexão.
+    // Com includeArchived, procura também no arquivo quando a tarefa não está em tasks
+    @ReadFromReplica
+    public TaskResponseDTO getTaskById(Long id, boolean includeArchived) {
+        Long userId = getAuthenticatedPrincipal().getId();
 
-        Task task = taskRepository.findByIdAndUser(id, user)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        return taskCache.get(userId, id).orElseGet(() -> {
+            long generation = taskCache.generation(userId, id);
+            Optional<TaskResponseDTO> task = taskQueryRepository.findByIdAndUserId(id, userId);
+
+            if (task.isPresent()) {
+                // Leituras de réplica podem estar atrasadas: não entram no cache compartilhado
+                if (!ReadFromReplicaAspect.isReplicaUsed()) {
+                    taskCache.putIfUnchanged(userId, task.get(), generation);
+                }
+                return task.get();
+            }
 
-        return taskMapper.toResponseDTO(task);
+            return (includeArchived ? archivedTaskRepository.findDtoByIdAndUserId(id, userId) : task)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        });
     }
 
-    // Buscar tarefas por status (do usuário autenticado)
-    public List<TaskResponseDTO> getTasksByStatus(TaskStatus status) {
-        User user = getAuthenticatedUser();
+    // Buscar tarefas por status (do usuário autenticado, paginação keyset; includeArchived como na listagem)
+    @ReadFromReplica
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskResponseDTO> getTasksByStatus(TaskStatus status, String cursor, Integer size, boolean includeArchived) {
+        Long userId = getAuthenticatedPrincipal().getId();
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        TaskCursor position = cursor != null ? TaskCursor.decode(cursor) : null;
 
-        return taskRepository.findByUserAndStatus(user, status).stream()
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        List<TaskResponseDTO> tasks = position == null
+                ? taskQueryRepository.findFirstPageByStatus(userId, status, limit)
+                : taskQueryRepository.findPageByStatusAfter(userId, status, position.createdAt(), position.id(), limit);
+
+        // Só tarefas concluídas são arquivadas
+        if (includeArchived && status == TaskStatus.COMPLETED) {
+            List<TaskResponseDTO> archived = position == null
+                    ? archivedTaskRepository.findFirstPageByStatus(userId, status, limit)
+                    : archivedTaskRepository.findPageByStatusAfter(userId, status, position.createdAt(), position.id(), limit);
+            tasks = merge(tasks, archived, limit.max());
+        }
+
+        return toPage(tasks, pageSize);
     }
 
-    // Buscar tarefas por título (do usuário autenticado)
-    public List<TaskResponseDTO> searchTasksByTitle(String title) {
-        User user = getAuthenticatedUser();
+    // Buscar tarefas por texto no título e na descrição (índice em memória, ordenado por relevância; partições frias são carregadas de uma réplica)
+    @ReadFromReplica
+    public CursorPageDTO<TaskResponseDTO> searchTasksByTitle(String title, String cursor, Integer size) {
+        Long userId = getAuthenticatedPrincipal().getId();
+        int pageSize = resolvePageSize(size);
+        TaskCursor position = cursor != null ? TaskCursor.decode(cursor) : null;
+
+        List<TaskSearchHit> hits = new ArrayList<>(pageSize + 1);
+        for (TaskSearchHit hit : taskSearchIndex.search(userId, title)) {
+            if (position == null || position.precedes(hit)) {
+                hits.add(hit);
+
+                if (hits.size() > pageSize) {
+                    break;
+                }
+            }
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<TaskSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
 
-        return taskRepository.findByUserAndTitleContainingIgnoreCase(user, title).stream()
-                .map(taskMapper::toResponseDTO)
+        List<TaskResponseDTO> content = pageHits.stream()
+                .map(TaskSearchHit::task)
                 .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? TaskCursor.of(pageHits.get(pageSize - 1)).encode() : null;
+
+        return new CursorPageDTO<>(content, nextCursor, hasNext, content.size());
+    }
+
+    // Quantidade de tarefas por status (contadores mantidos a cada alteração, sem ler tasks)
+    public TaskStatsDTO getTaskStats() {
+        return taskStatsService.getStats(getAuthenticatedPrincipal().getId());
+    }
+
+    // Exportar todas as tarefas do usuário em NDJSON (escrita incremental, fora da thread da requisição)
+    public StreamingResponseBody exportTasks() {
+        // O usuário e o shard são resolvidos ainda na thread da requisição
+        Long userId = getAuthenticatedPrincipal().getId();
+        String shard = ShardContext.current();
+
+        return out -> {
+            try (ShardContext.Scope scope = ShardContext.open(shard)) {
+                taskExportService.exportTasks(userId, out);
+            }
+        };
+    }
+
+    // Sincronização incremental: tarefas alteradas e IDs removidos desde o token (sem token: desde o início)
+    @Transactional(readOnly = true)
+    public TaskChangesDTO getChanges(String since) {
+        Long userId = getAuthenticatedPrincipal().getId();
+        LocalDateTime now = LocalDateTime.now();
+        String nextToken = new SyncToken(now.minus(syncCommitLag)).encode();
+
+        LocalDateTime watermark = (since != null ? SyncToken.decode(since) : SyncToken.INITIAL).watermark();
+
+        // Tombstones anteriores à retenção já podem ter sido expurgados: o delta não seria confiável
+        if (since != null && watermark.isBefore(now.minus(tombstoneRetention))) {
+            return new TaskChangesDTO(List.of(), List.of(), nextToken, true);
+        }
+
+        Limit limit = Limit.of(maxSyncChanges + 1);
+        List<TaskResponseDTO> changed = taskQueryRepository.findChangedSince(userId, watermark, limit);
+        List<Long> deleted = taskTombstoneRepository.findDeletedSince(userId, watermark, limit);
+
+        // Delta grande demais: é mais barato o cliente recarregar a lista completa
+        if (changed.size() > maxSyncChanges || deleted.size() > maxSyncChanges) {
+            return new TaskChangesDTO(List.of(), List.of(), nextToken, true);
+        }
+
+        return new TaskChangesDTO(changed, deleted, nextToken, false);
+    }
+
+    // Feed SSE das alterações do usuário (retomado a partir do Last-Event-ID, quando informado)
+    public SseEmitter streamTaskChanges(String lastEventId) {
+        return taskEventBus.subscribe(getAuthenticatedPrincipal().getId(), lastEventId);
     }
 
     // Atualizar uma tarefa (apenas se pertencer ao usuário)
+    @Transactional
     public TaskResponseDTO updateTask(Long id, TaskRequestDTO requestDTO) {
         User user = getAuthenticatedUser();
 
         Task task = taskRepository.findByIdAndUser(id, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        TaskStatus previousStatus = task.getStatus();
 
         task.setTitle(requestDTO.getTitle());
         task.setDescription(requestDTO.getDescription());
@@ -99,11 +313,100 @@ public class TaskService {
             task.setStatus(requestDTO.getStatus());
         }
 
-        Task updatedTask = taskRepository.save(task);
-        return taskMapper.toResponseDTO(updatedTask);
+        // Flush para que updatedAt já reflita a alteração na resposta
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskResponseDTO responseDTO = taskMapper.toResponseDTO(updatedTask);
+        taskStatsService.applyDelta(user.getId(), new TaskStatsDelta().move(previousStatus, updatedTask.getStatus()));
+
+        eventPublisher.publishEvent(TaskChangedEvent.updated(user.getId(), responseDTO));
+        return responseDTO;
+    }
+
+    // Atualização parcial com lock otimista: um único UPDATE condicional (só as colunas enviadas, WHERE id, usuário
+    // e versão). O estado anterior (para os contadores de status e a resposta) vem do cache quando está na mesma
+    // versão; senão, só uma troca de status o lê antes do UPDATE. Versão diferente, ou alteração concorrente, responde 409.
+    // Sem o cache, a resposta precisa da linha de qualquer forma (título, criação): lida antes do UPDATE, a mesma
+    // consulta traz o status anterior. Custo fixado no TaskControllerSqlBudgetTest (SELECT, UPDATE e contadores)
+    @Transactional
+    public TaskResponseDTO patchTask(Long id, TaskPatchRequestDTO patchDTO) {
+        if (!patchDTO.hasChanges()) {
+            throw new InvalidRequestException("Nenhum campo informado para atualizar");
+        }
+
+        Long userId = getAuthenticatedPrincipal().getId();
+
+        // Estado anterior do cache, se estiver na versão esperada. Sem ele, só o status anterior exige leitura antes
+        // do UPDATE (contadores); nos demais casos o UPDATE condicional vai primeiro e a resposta é lida depois dele
+        TaskResponseDTO previous = taskCache.get(userId, id)
+                .filter(cached -> patchDTO.getVersion().equals(cached.getVersion()))
+                .orElse(null);
+        if (previous == null && patchDTO.getStatus() != null) {
+            previous = taskQueryRepository.findByIdAndUserId(id, userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+            if (!patchDTO.getVersion().equals(previous.getVersion())) {
+                throw versionConflict(id);
+            }
+        }
+
+        // Mesma precisão da coluna (microssegundos), para a resposta bater com o que foi gravado
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (taskRepository.patch(id, userId, patchDTO, updatedAt) == 0) {
+            // Nenhuma linha: tarefa inexistente (404) ou versão desatualizada (409)
+            if (taskQueryRepository.findByIdAndUserId(id, userId).isEmpty()) {
+                throw new ResourceNotFoundException("Task", "id", id);
+            }
+            throw versionConflict(id);
+        }
+
+        if (previous == null) {
+            // Lida após o UPDATE, na mesma transação: já é a versão gravada por esta requisição
+            TaskResponseDTO patched = taskQueryRepository.findByIdAndUserId(id, userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+            eventPublisher.publishEvent(TaskChangedEvent.updated(userId, patched));
+            return patched;
+        }
+
+        TaskResponseDTO responseDTO = new TaskResponseDTO(
+                id,
+                patchDTO.getTitle() != null ? patchDTO.getTitle() : previous.getTitle(),
+                patchDTO.getDescription() != null ? emptyToNull(patchDTO.getDescription()) : previous.getDescription(),
+                patchDTO.getStatus() != null ? patchDTO.getStatus() : previous.getStatus(),
+                previous.getCreatedAt(),
+                updatedAt,
+                previous.getVersion() + 1);
+        taskStatsService.applyDelta(userId, new TaskStatsDelta().move(previous.getStatus(), responseDTO.getStatus()));
+
+        eventPublisher.publishEvent(TaskChangedEvent.updated(userId, responseDTO));
+        return responseDTO;
+    }
+
+    // Restaurar uma tarefa arquivada: volta para tasks com o mesmo ID, como uma alteração (nova versão e updatedAt).
+    // O tombstone do arquivamento é removido: em /changes ela passa a aparecer só entre as alteradas
+    @Transactional
+    public TaskResponseDTO restoreTask(Long id) {
+        Long userId = getAuthenticatedPrincipal().getId();
+
+        TaskResponseDTO archived = archivedTaskRepository.findDtoByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+
+        // Mesma precisão da coluna (microssegundos), para a resposta bater com o que foi gravado
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (archivedTaskRepository.copyToTasks(id, userId, updatedAt) == 0) {
+            throw new ResourceNotFoundException("Task", "id", id);
+        }
+        archivedTaskRepository.deleteAllByIdInBatch(List.of(id));
+        taskTombstoneRepository.deleteAllByIdInBatch(List.of(id));
+
+        TaskResponseDTO responseDTO = new TaskResponseDTO(id, archived.getTitle(), archived.getDescription(),
+                archived.getStatus(), archived.getCreatedAt(), updatedAt, archived.getVersion() + 1);
+        taskStatsService.applyDelta(userId, new TaskStatsDelta().add(responseDTO.getStatus()));
+
+        eventPublisher.publishEvent(TaskChangedEvent.restored(userId, responseDTO));
+        return responseDTO;
     }
 
     // Deletar uma tarefa (apenas se pertencer ao usuário)
+    @Transactional
     public void deleteTask(Long id) {
         User user = getAuthenticatedUser();
 
@@ -111,5 +414,181 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
 
         taskRepository.delete(task);
+        taskTombstoneRepository.save(new TaskTombstone(id, user.getId()));
+        taskStatsService.applyDelta(user.getId(), new TaskStatsDelta().remove(task.getStatus()));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(user.getId(), id));
+    }
+
+    // Criar várias tarefas em uma única transação (INSERTs agrupados em batch)
+    @Transactional
+    public TaskBatchResultDTO createTasks(List<TaskRequestDTO> requestDTOs) {
+        checkBatchSize(requestDTOs.size());
+        User user = getAuthenticatedUser();
+
+        List<Task> tasks = new ArrayList<>(requestDTOs.size());
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (TaskRequestDTO requestDTO : requestDTOs) {
+            Task task = taskMapper.toEntity(requestDTO);
+            task.setStatus(TaskStatus.PENDING);
+            task.setUser(user);
+            tasks.add(task);
+            statsDelta.add(task.getStatus());
+        }
+
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        taskStatsService.applyDelta(user.getId(), statsDelta);
+
+        List<TaskBatchItemResultDTO> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            TaskResponseDTO responseDTO = taskMapper.toResponseDTO(task);
+
+            results.add(new TaskBatchItemResultDTO(i, task.getId(), HttpStatus.CREATED.value(), null, responseDTO));
+            eventPublisher.publishEvent(TaskChangedEvent.created(user.getId(), responseDTO));
+        }
+
+        return TaskBatchResultDTO.of(results);
+    }
+
+    // Atualizar várias tarefas em uma única transação (UPDATEs agrupados em batch)
+    @Transactional
+    public TaskBatchResultDTO updateTasks(List<TaskBatchUpdateItemDTO> items) {
+        checkBatchSize(items.size());
+        User user = getAuthenticatedUser();
+
+        Map<Long, Task> tasksById = findTasksById(user, items.stream().map(TaskBatchUpdateItemDTO::getId).toList());
+
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (TaskBatchUpdateItemDTO item : items) {
+            Task task = tasksById.get(item.getId());
+
+            if (task != null) {
+                task.setTitle(item.getTitle());
+                task.setDescription(item.getDescription());
+
+                if (item.getStatus() != null) {
+                    statsDelta.move(task.getStatus(), item.getStatus());
+                    task.setStatus(item.getStatus());
+                }
+            }
+        }
+
+        // Flush antes de montar a resposta para que updatedAt reflita a alteração
+        taskRepository.flush();
+        taskStatsService.applyDelta(user.getId(), statsDelta);
+
+        List<TaskBatchItemResultDTO> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Long id = items.get(i).getId();
+            Task task = tasksById.get(id);
+
+            if (task == null) {
+                results.add(notFoundResult(i, id));
+            } else {
+                TaskResponseDTO responseDTO = taskMapper.toResponseDTO(task);
+
+                results.add(new TaskBatchItemResultDTO(i, id, HttpStatus.OK.value(), null, responseDTO));
+                eventPublisher.publishEvent(TaskChangedEvent.updated(user.getId(), responseDTO));
+            }
+        }
+
+        return TaskBatchResultDTO.of(results);
+    }
+
+    // Deletar várias tarefas em uma única transação (um único DELETE)
+    @Transactional
+    public TaskBatchResultDTO deleteTasks(List<Long> ids) {
+        checkBatchSize(ids.size());
+        User user = getAuthenticatedUser();
+
+        Map<Long, Task> tasksById = findTasksById(user, ids);
+        taskRepository.deleteAllInBatch(tasksById.values());
+        taskTombstoneRepository.saveAll(tasksById.keySet().stream()
+                .map(id -> new TaskTombstone(id, user.getId()))
+                .toList());
+
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        tasksById.values().forEach(task -> statsDelta.remove(task.getStatus()));
+        taskStatsService.applyDelta(user.getId(), statsDelta);
+
+        List<TaskBatchItemResultDTO> results = new ArrayList<>(ids.size());
+        Set<Long> deleted = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+
+            // IDs repetidos só contam como removidos na primeira ocorrência
+            if (tasksById.containsKey(id) && deleted.add(id)) {
+                results.add(new TaskBatchItemResultDTO(i, id, HttpStatus.NO_CONTENT.value(), null, null));
+                eventPublisher.publishEvent(TaskChangedEvent.deleted(user.getId(), id));
+            } else {
+                results.add(notFoundResult(i, id));
+            }
+        }
+
+        return TaskBatchResultDTO.of(results);
+    }
+
+    private Map<Long, Task> findTasksById(User user, List<Long> ids) {
+        return taskRepository.findByUserAndIdIn(user, new HashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private TaskBatchItemResultDTO notFoundResult(int index, Long id) {
+        String message = new ResourceNotFoundException("Task", "id", id).getMessage();
+        return new TaskBatchItemResultDTO(index, id, HttpStatus.NOT_FOUND.value(), message, null);
+    }
+
+    private DataConflictException versionConflict(Long id) {
+        return new DataConflictException("A tarefa " + id + " foi alterada por outra requisição; recarregue e tente novamente");
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw new InvalidRequestException("O lote deve ter no máximo " + maxBatchSize + " itens");
+        }
+    }
+
+    // Limita o tamanho da página ao intervalo [1, max-size]
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    // Intercala duas páginas já ordenadas (tasks e tasks_archive; os IDs não se repetem entre as tabelas)
+    private static List<TaskResponseDTO> merge(List<TaskResponseDTO> tasks, List<TaskResponseDTO> archived, int limit) {
+        if (archived.isEmpty()) {
+            return tasks;
+        }
+
+        List<TaskResponseDTO> merged = new ArrayList<>(Math.min(limit, tasks.size() + archived.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < tasks.size() || j < archived.size())) {
+            if (j == archived.size() || (i < tasks.size() && NEWEST_FIRST.compare(tasks.get(i), archived.get(j)) <= 0)) {
+                merged.add(tasks.get(i++));
+            } else {
+                merged.add(archived.get(j++));
+            }
+        }
+
+        return merged;
+    }
+
+    // Consulta traz pageSize + 1 registros: o excedente indica que existe próxima página
+    private CursorPageDTO<TaskResponseDTO> toPage(List<TaskResponseDTO> tasks, int pageSize) {
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskResponseDTO> content = hasNext ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = hasNext ? TaskCursor.of(content.get(pageSize - 1)).encode() : null;
+
+        return new CursorPageDTO<>(content, nextCursor, hasNext, content.size());
     }
 }
\ No newline at end of file
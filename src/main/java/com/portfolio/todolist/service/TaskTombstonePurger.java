@@ -0,0 +1,60 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.repository.TaskTombstoneRepository;
+import com.portfolio.todolist.sharding.ShardContext;
+import com.portfolio.todolist.sharding.ShardDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Job periódico que remove os tombstones mais antigos que a janela de retenção, em lotes pequenos, em cada shard
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTombstonePurger {
+
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final ShardDirectory shardDirectory;
+
+    @Value("${tasks.sync.tombstone-retention:30d}")
+    private Duration retention;
+
+    @Value("${tasks.sync.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${tasks.sync.purge.initial-delay-ms:120000}",
+            fixedDelayString = "${tasks.sync.purge.interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        for (String shard : shardDirectory.shards()) {
+            try (ShardContext.Scope scope = ShardContext.open(shard)) {
+                purgeShard(cutoff);
+            }
+        }
+    }
+
+    private void purgeShard(LocalDateTime cutoff) {
+        long purged = 0;
+
+        List<Long> ids;
+        do {
+            ids = tombstoneRepository.findIdsDeletedBefore(cutoff, Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                tombstoneRepository.deleteAllByIdInBatch(ids);
+                purged += ids.size();
+            }
+        } while (ids.size() == batchSize);
+
+        if (purged > 0) {
+            log.info("Expurgo de tombstones removeu {} registro(s) anteriores a {} no {}", purged, cutoff, ShardContext.current());
+        }
+    }
+}
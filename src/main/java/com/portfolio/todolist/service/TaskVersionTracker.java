@@ -0,0 +1,90 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.event.TaskChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Versão monotônica das tarefas de cada usuário, usada como ETag (responde 304 sem consultar o banco).
+// As versões são locais à instância (só ela recebe os eventos das próprias escritas): com várias instâncias, cada
+// usuário precisa ser atendido sempre pela mesma, ou o GET condicional deve ser desligado (tasks.etag.enabled)
+@Component
+public class TaskVersionTracker {
+
+    // Prefixo por inicialização: ETags emitidas antes de um restart nunca coincidem com as novas
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Versão dos usuários sem entrada no mapa (nenhuma alteração desde o início ou desde a última limpeza)
+    private volatile long floor;
+
+    @Value("${tasks.etag.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tasks.etag.max-users:100000}")
+    private int maxUsers;
+
+    // Após o commit: a nova versão só é visível quando os dados já estão gravados
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        bump(event.userId());
+    }
+
+    public void bump(Long userId) {
+        lock.readLock().lock();
+        try {
+            versions.put(userId, clock.incrementAndGet());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (versions.size() > maxUsers) {
+            compact();
+        }
+    }
+
+    // ETag fraca: W/"<epoch>-<usuário>-<versão>" no JSON e, nos outros formatos negociados, com o subtipo como
+    // sufixo ("...-cbor"): cada representação tem a sua, e um cache nunca troca o corpo de um formato pelo de outro.
+    // Fraca porque o Tomcat não comprime respostas com ETag forte; o If-None-Match usa a comparação fraca (304 igual).
+    // Null com o GET condicional desligado
+    public String etag(Long userId, MediaType format) {
+        if (!enabled) {
+            return null;
+        }
+
+        long version;
+
+        lock.readLock().lock();
+        try {
+            version = versions.getOrDefault(userId, floor);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        String suffix = MediaType.APPLICATION_JSON.equalsTypeAndSubtype(format) ? "" : "-" + format.getSubtype();
+        return "W/\"" + epoch + "-" + userId + "-" + version + suffix + "\"";
+    }
+
+    // Ao exceder o limite, descarta o mapa e eleva o piso acima de todas as versões já emitidas
+    private void compact() {
+        lock.writeLock().lock();
+        try {
+            if (versions.size() > maxUsers) {
+                floor = clock.get();
+                versions.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
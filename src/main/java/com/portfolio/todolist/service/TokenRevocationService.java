@@ -0,0 +1,74 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.model.RevokedToken;
+import com.portfolio.todolist.repository.RevokedTokenRepository;
+import com.portfolio.todolist.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// Persiste revogações de access tokens e mantém a lista em memória sincronizada com o banco:
+// carga completa na subida (antes do servidor aceitar requisições) e depois só as revogações novas,
+// para que revogações feitas em outra instância também passem a valer aqui
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService implements SmartInitializingSingleton {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationList revocationList;
+
+    // Janela relida a cada sincronização (transações que gravaram com revoked_at anterior e commitaram depois)
+    @Value("${security.revocation.sync.commit-lag:10s}")
+    private Duration commitLag;
+
+    private volatile LocalDateTime lastSync;
+
+    // Revoga o access token até a sua expiração (idempotente)
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || revocationList.isRevoked(jti) || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(new RevokedToken(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        }
+
+        revocationList.revoke(jti, expiresAt.toEpochMilli());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        sync();
+        log.info("Lista de revogação carregada com {} token(s)", revocationList.size());
+    }
+
+    @Scheduled(initialDelayString = "${security.revocation.sync.interval-ms:5000}",
+            fixedDelayString = "${security.revocation.sync.interval-ms:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSync != null ? lastSync.minus(commitLag) : SyncToken.INITIAL.watermark();
+
+        try {
+            List<RevokedToken> revoked = revokedTokenRepository.findRevokedSince(since, now);
+            for (RevokedToken token : revoked) {
+                revocationList.revoke(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            lastSync = now;
+        } catch (RuntimeException e) {
+            // Banco indisponível: mantém a lista atual e tenta de novo no próximo ciclo
+            log.warn("Falha ao sincronizar a lista de revogação: {}", e.getMessage());
+        }
+    }
+}
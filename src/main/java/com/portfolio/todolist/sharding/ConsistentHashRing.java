@@ -0,0 +1,56 @@
+package com.portfolio.todolist.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Anel de hash consistente: cada shard ocupa virtualNodes pontos do anel e um usuário pertence ao primeiro ponto
+// no sentido horário do hash do seu ID. Ao incluir um shard, só ~1/N dos usuários mudam de dono (todos para o novo)
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> points = new TreeMap<>();
+    private final List<String> shards;
+
+    public ConsistentHashRing(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("O anel precisa de ao menos um shard e um nó virtual");
+        }
+
+        this.shards = List.copyOf(shards);
+        for (String shard : this.shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(hash(shard + "#" + i), shard);
+            }
+        }
+    }
+
+    public String shardFor(long key) {
+        Map.Entry<Long, String> point = points.ceilingEntry(mix(key));
+        return point != null ? point.getValue() : points.firstEntry().getValue();
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    // FNV-1a de 64 bits seguido do finalizador do MurmurHash3 (espalha bem nomes parecidos como shard0#1, shard0#2)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package com.portfolio.todolist.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+// Shard das operações da thread atual, lido pelo ShardRoutingDataSource ao abrir cada conexão física.
+// Fora de um escopo, tudo vai ao shard padrão (que também guarda o diretório de usuários).
+// Trocar de shard com uma transação ativa é proibido: a conexão da transação já pertence a outro banco
+public final class ShardContext {
+
+    public static final String DEFAULT_SHARD = "shard0";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        String shard = CURRENT.get();
+        return shard != null ? shard : DEFAULT_SHARD;
+    }
+
+    // Uso: try (ShardContext.Scope scope = ShardContext.open(shard)) { ... }
+    public static Scope open(String shard) {
+        Objects.requireNonNull(shard, "shard");
+        String previous = CURRENT.get();
+
+        if (!shard.equals(current()) && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Troca de shard (" + current() + " -> " + shard + ") dentro de uma transação");
+        }
+
+        CURRENT.set(shard);
+        return new Scope(previous);
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.portfolio.todolist.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// DataSources físicos de cada shard, por nome: shard0 é o banco de spring.datasource (com as réplicas de leitura)
+// e shard1..N vêm de sharding.shard-urls, na ordem. Os nomes entram no anel e no diretório: a ordem não pode mudar
+public class ShardDataSources implements AutoCloseable {
+
+    private final Map<String, DataSource> dataSources = new LinkedHashMap<>();
+
+    public ShardDataSources(DataSource defaultShard, List<HikariDataSource> additionalShards) {
+        dataSources.put(ShardContext.DEFAULT_SHARD, defaultShard);
+        for (HikariDataSource dataSource : additionalShards) {
+            dataSources.put(dataSource.getPoolName(), dataSource);
+        }
+    }
+
+    public DataSource get(String shard) {
+        DataSource dataSource = dataSources.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Shard desconhecido: " + shard);
+        }
+        return dataSource;
+    }
+
+    public List<String> names() {
+        return List.copyOf(dataSources.keySet());
+    }
+
+    public boolean contains(String shard) {
+        return dataSources.containsKey(shard);
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().stream()
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .forEach(HikariDataSource::close);
+    }
+}
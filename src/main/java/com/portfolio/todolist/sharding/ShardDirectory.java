@@ -0,0 +1,156 @@
+package com.portfolio.todolist.sharding;
+
+import com.portfolio.todolist.model.UserShardAssignment;
+import com.portfolio.todolist.repository.UserShardAssignmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Diretório usuário -> shard: o anel de hash (sharding.ring) decide o shard de cada usuário, exceto os registrados
+// em user_shard_assignments (no shard padrão), movidos ou em migração pelo ShardRebalancer. Os registros ficam
+// em memória e são relidos a cada sharding.directory.refresh-interval-ms (as outras instâncias veem as mudanças
+// de uma migração dentro desse intervalo)
+@Slf4j
+@Component
+public class ShardDirectory implements InitializingBean {
+
+    private final ShardDataSources shardDataSources;
+    private final UserShardAssignmentRepository assignmentRepository;
+    private final int virtualNodes;
+    private final ConsistentHashRing ring;
+
+    private volatile Map<Long, UserShardAssignment> assignments = Map.of();
+
+    public ShardDirectory(ShardDataSources shardDataSources,
+                          UserShardAssignmentRepository assignmentRepository,
+                          @Value("${sharding.ring:}") List<String> ringShards,
+                          @Value("${sharding.virtual-nodes:160}") int virtualNodes) {
+        this.shardDataSources = shardDataSources;
+        this.assignmentRepository = assignmentRepository;
+        this.virtualNodes = virtualNodes;
+        this.ring = ringOf(ringShards.isEmpty() ? shardDataSources.names() : ringShards);
+    }
+
+    // Anel com os shards informados (também usado pelo ShardRebalancer para o anel de destino)
+    public ConsistentHashRing ringOf(List<String> shards) {
+        for (String shard : shards) {
+            if (!shardDataSources.contains(shard)) {
+                throw new IllegalStateException("Shard do anel sem DataSource configurado: " + shard);
+            }
+        }
+        return new ConsistentHashRing(shards, virtualNodes);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refresh();
+    }
+
+    public String shardFor(Long userId) {
+        UserShardAssignment assignment = assignments.get(userId);
+        return assignment != null ? assignment.getShard() : ring.shardFor(userId);
+    }
+
+    public boolean isMigrating(Long userId) {
+        UserShardAssignment assignment = assignments.get(userId);
+        return assignment != null && assignment.isMigrating();
+    }
+
+    // Os dados do usuário no shard atual são os vigentes e podem ser alterados pelos jobs: ele pertence ao shard
+    // e não está migrando (na origem, as cópias antigas de uma migração só são removidas após a carência)
+    public boolean isWritableHere(Long userId) {
+        return !isMigrating(userId) && shardFor(userId).equals(ShardContext.current());
+    }
+
+    public List<String> shards() {
+        return shardDataSources.names();
+    }
+
+    public boolean isSharded() {
+        return shardDataSources.names().size() > 1;
+    }
+
+    public ConsistentHashRing ring() {
+        return ring;
+    }
+
+    public List<UserShardAssignment> migrationsInProgress() {
+        return assignments.values().stream().filter(UserShardAssignment::isMigrating).toList();
+    }
+
+    @Scheduled(fixedDelayString = "${sharding.directory.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!isSharded()) {
+            return;
+        }
+
+        try (ShardContext.Scope scope = ShardContext.open(ShardContext.DEFAULT_SHARD)) {
+            assignments = assignmentRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(UserShardAssignment::getUserId, Function.identity()));
+        } catch (DataAccessException e) {
+            // Mantém o último estado conhecido
+            log.warn("Falha ao recarregar o diretório de shards", e);
+        }
+    }
+
+    // Migrações (ShardRebalancer): o estado em memória só muda no próximo refresh, feito uma vez por lote
+
+    // Marca o usuário como em migração (escritas suspensas); false se ele já migra ou mudou de shard
+    boolean beginMigration(Long userId, String source, String target) {
+        try (ShardContext.Scope scope = ShardContext.open(ShardContext.DEFAULT_SHARD)) {
+            LocalDateTime now = LocalDateTime.now();
+
+            if (assignmentRepository.beginMigration(userId, source, target, now) == 0) {
+                if (assignmentRepository.existsById(userId)) {
+                    return false;
+                }
+                assignmentRepository.save(new UserShardAssignment(userId, source, target, now));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância começou a mesma migração
+            return false;
+        }
+
+        return true;
+    }
+
+    void completeMigration(Long userId, String target) {
+        try (ShardContext.Scope scope = ShardContext.open(ShardContext.DEFAULT_SHARD)) {
+            assignmentRepository.completeMigration(userId, target, LocalDateTime.now());
+        }
+    }
+
+    void abortMigration(Long userId) {
+        try (ShardContext.Scope scope = ShardContext.open(ShardContext.DEFAULT_SHARD)) {
+            assignmentRepository.abortMigration(userId, LocalDateTime.now());
+        }
+    }
+
+    // Remove os registros que coincidem com o anel atual (depois que sharding.ring passa a incluir os novos shards)
+    int pruneSettled() {
+        List<Long> redundant = assignments.values().stream()
+                .filter(assignment -> !assignment.isMigrating() && assignment.getShard().equals(ring.shardFor(assignment.getUserId())))
+                .map(UserShardAssignment::getUserId)
+                .toList();
+
+        if (redundant.isEmpty()) {
+            return 0;
+        }
+
+        try (ShardContext.Scope scope = ShardContext.open(ShardContext.DEFAULT_SHARD)) {
+            return assignmentRepository.deleteSettled(redundant);
+        } finally {
+            refresh();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.portfolio.todolist.sharding;
+
+import com.portfolio.todolist.model.UserShardAssignment;
+import com.portfolio.todolist.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Migração online de usuários entre shards, em lotes: marca os usuários como em migração (escritas respondem 503,
+// leituras seguem na origem), aguarda a carência (requisições em andamento terminam e as outras instâncias recarregam
+// o diretório), copia as linhas das ShardedTables para o destino em uma transação, aponta o diretório para o destino
+// e, após outra carência (leituras que ainda usavam a origem), remove as linhas da origem.
+// Com sharding.rebalance.target-ring preenchido, o job move todos os usuários cujo dono muda no novo anel
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardRebalancer {
+
+    private final ShardDirectory shardDirectory;
+    private final ShardDataSources shardDataSources;
+    private final UserRepository userRepository;
+
+    @Value("${sharding.rebalance.target-ring:}")
+    private List<String> targetRing;
+
+    @Value("${sharding.rebalance.batch-size:100}")
+    private int batchSize;
+
+    @Value("${sharding.rebalance.batch-delay:1s}")
+    private Duration batchDelay;
+
+    // Deve superar a requisição mais longa e o intervalo de recarga do diretório (sharding.directory.refresh-interval-ms)
+    @Value("${sharding.rebalance.grace-period:5s}")
+    private Duration gracePeriod;
+
+    // Migrações marcadas há mais tempo que isso são de uma execução interrompida e são retomadas
+    @Value("${sharding.rebalance.stale-after:10m}")
+    private Duration staleAfter;
+
+    @Scheduled(initialDelayString = "${sharding.rebalance.initial-delay-ms:60000}",
+            fixedDelayString = "${sharding.rebalance.interval-ms:600000}")
+    public void rebalanceToTargetRing() {
+        if (!targetRing.isEmpty()) {
+            rebalance(shardDirectory.ringOf(targetRing));
+        }
+    }
+
+    // Move para o dono no anel de destino todos os usuários que estão em outro shard; retorna quantos foram movidos
+    public int rebalance(ConsistentHashRing target) {
+        resumeStaleMigrations();
+
+        int moved = 0;
+        long lastUserId = 0;
+
+        List<Long> userIds;
+        int batchMoved;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, Limit.of(batchSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, String> targets = new LinkedHashMap<>();
+            for (Long userId : userIds) {
+                String owner = target.shardFor(userId);
+                if (!owner.equals(shardDirectory.shardFor(userId))) {
+                    targets.put(userId, owner);
+                }
+            }
+
+            batchMoved = moveUsers(targets);
+            moved += batchMoved;
+            lastUserId = userIds.getLast();
+        } while (userIds.size() == batchSize && (batchMoved == 0 || pause()));
+
+        int pruned = shardDirectory.pruneSettled();
+        if (moved > 0 || pruned > 0) {
+            log.info("Rebalanceamento para o anel {} moveu {} usuário(s) e removeu {} registro(s) do diretório",
+                    target.shards(), moved, pruned);
+        }
+
+        return moved;
+    }
+
+    public boolean moveUser(Long userId, String target) {
+        return moveUsers(Map.of(userId, target)) == 1;
+    }
+
+    // Move o lote (usuário -> shard de destino); usuários já no destino ou em outra migração são ignorados
+    public int moveUsers(Map<Long, String> targets) {
+        Map<Long, Migration> migrations = new LinkedHashMap<>();
+
+        targets.forEach((userId, target) -> {
+            if (!shardDataSources.contains(target)) {
+                throw new IllegalArgumentException("Shard desconhecido: " + target);
+            }
+
+            String source = shardDirectory.shardFor(userId);
+            if (!source.equals(target) && shardDirectory.beginMigration(userId, source, target)) {
+                migrations.put(userId, new Migration(source, target));
+            }
+        });
+
+        return migrate(migrations);
+    }
+
+    private void resumeStaleMigrations() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+        Map<Long, Migration> stale = new LinkedHashMap<>();
+
+        for (UserShardAssignment assignment : shardDirectory.migrationsInProgress()) {
+            if (assignment.getUpdatedAt().isBefore(staleBefore)) {
+                stale.put(assignment.getUserId(), new Migration(assignment.getShard(), assignment.getTargetShard()));
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            log.warn("Retomando {} migração(ões) de shard interrompida(s)", stale.size());
+            migrate(stale);
+        }
+    }
+
+    private int migrate(Map<Long, Migration> migrations) {
+        if (migrations.isEmpty()) {
+            return 0;
+        }
+
+        shardDirectory.refresh();
+        if (!awaitGracePeriod()) {
+            migrations.keySet().forEach(shardDirectory::abortMigration);
+            shardDirectory.refresh();
+            return 0;
+        }
+
+        List<Long> completed = new ArrayList<>(migrations.size());
+        migrations.forEach((userId, migration) -> {
+            try {
+                copyUser(userId, migration.source(), migration.target());
+                shardDirectory.completeMigration(userId, migration.target());
+                completed.add(userId);
+            } catch (SQLException | DataAccessException e) {
+                // O usuário continua na origem; a cópia parcial no destino é descartada
+                log.warn("Falha ao migrar o usuário {} do {} para o {}", userId, migration.source(), migration.target(), e);
+                shardDirectory.abortMigration(userId);
+                deleteUserQuietly(migration.target(), userId);
+            }
+        });
+        shardDirectory.refresh();
+
+        // Interrompido: as linhas antigas ficam na origem (ignoradas pelos jobs e substituídas numa migração de volta)
+        if (!completed.isEmpty() && awaitGracePeriod()) {
+            completed.forEach(userId -> deleteUserQuietly(migrations.get(userId).source(), userId));
+        }
+
+        return completed.size();
+    }
+
+    // Cópia em uma transação no destino, que antes descarta qualquer resto de uma tentativa anterior
+    private void copyUser(Long userId, String source, String target) throws SQLException {
+        try (Connection from = shardDataSources.get(source).getConnection();
+             Connection to = shardDataSources.get(target).getConnection()) {
+            to.setAutoCommit(false);
+
+            try {
+                for (String table : ShardedTables.ALL) {
+                    deleteRows(to, table, userId);
+                    copyRows(from, to, table, userId);
+                }
+                to.commit();
+            } catch (SQLException | RuntimeException e) {
+                to.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // Colunas lidas do próprio resultado: a cópia acompanha o schema sem depender das entidades
+    private void copyRows(Connection from, Connection to, String table, Long userId) throws SQLException {
+        try (PreparedStatement select = from.prepareStatement("select * from " + table + " where user_id = ?")) {
+            select.setLong(1, userId);
+
+            try (ResultSet rows = select.executeQuery()) {
+                ResultSetMetaData metaData = rows.getMetaData();
+                int columns = metaData.getColumnCount();
+
+                List<String> names = new ArrayList<>(columns);
+                for (int i = 1; i <= columns; i++) {
+                    names.add(metaData.getColumnName(i));
+                }
+                String insert = "insert into " + table + " (" + String.join(", ", names) + ") values ("
+                        + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+
+                try (PreparedStatement statement = to.prepareStatement(insert)) {
+                    int pending = 0;
+
+                    while (rows.next()) {
+                        for (int i = 1; i <= columns; i++) {
+                            statement.setObject(i, rows.getObject(i));
+                        }
+                        statement.addBatch();
+
+                        if (++pending == batchSize) {
+                            statement.executeBatch();
+                            pending = 0;
+                        }
+                    }
+
+                    if (pending > 0) {
+                        statement.executeBatch();
+                    }
+                }
+            }
+        }
+    }
+
+    private void deleteUserQuietly(String shard, Long userId) {
+        try (Connection connection = shardDataSources.get(shard).getConnection()) {
+            connection.setAutoCommit(false);
+            for (String table : ShardedTables.ALL) {
+                deleteRows(connection, table, userId);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            log.warn("Falha ao remover as linhas do usuário {} no {}", userId, shard, e);
+        }
+    }
+
+    private static void deleteRows(Connection connection, String table, Long userId) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("delete from " + table + " where user_id = ?")) {
+            delete.setLong(1, userId);
+            delete.executeUpdate();
+        }
+    }
+
+    private boolean awaitGracePeriod() {
+        return sleep(gracePeriod);
+    }
+
+    // Throttling entre lotes; interrompido, encerra a execução
+    private boolean pause() {
+        return sleep(batchDelay);
+    }
+
+    private static boolean sleep(Duration duration) {
+        if (duration.isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Migration(String source, String target) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.portfolio.todolist.sharding;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Entrega a conexão do shard do ShardContext atual. Como o ReadWriteRoutingDataSource, fica atrás do
+// LazyConnectionDataSourceProxy: o shard é lido no primeiro statement da transação
+public class ShardRoutingDataSource extends AbstractDataSource {
+
+    private final ShardDataSources shards;
+
+    public ShardRoutingDataSource(ShardDataSources shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return shards.get(ShardContext.current()).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return shards.get(ShardContext.current()).getConnection(username, password);
+    }
+}
@@ -0,0 +1,119 @@
+package com.portfolio.todolist.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.DelayedDropRegistryNotAvailableImpl;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Aplica o spring.jpa.hibernate.ddl-auto também aos shards adicionais, restrito às ShardedTables (o Hibernate
+// só gerencia o banco de spring.datasource). Registrado no Hibernate como Integrator (ShardingConfig) para
+// capturar o modelo mapeado; roda quando todos os beans estão prontos, antes de a aplicação atender requisições
+@Slf4j
+@Component
+public class ShardSchemaManager implements Integrator, SmartInitializingSingleton {
+
+    private static final SchemaFilter SHARDED_TABLES_ONLY = new SchemaFilter() {
+        @Override
+        public boolean includeNamespace(Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(Table table) {
+            return ShardedTables.ALL.contains(table.getName());
+        }
+
+        @Override
+        public boolean includeSequence(Sequence sequence) {
+            return false;
+        }
+    };
+
+    private final ShardDataSources shardDataSources;
+
+    private volatile Metadata metadata;
+    private volatile SessionFactoryImplementor sessionFactory;
+
+    public ShardSchemaManager(ShardDataSources shardDataSources) {
+        this.shardDataSources = shardDataSources;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata == null || shardDataSources.names().size() == 1) {
+            return;
+        }
+
+        Map<String, Object> settings = shardSettings(
+                sessionFactory.getServiceRegistry().requireService(ConfigurationService.class).getSettings());
+        for (String shard : shardDataSources.names()) {
+            if (shard.equals(ShardContext.DEFAULT_SHARD)) {
+                continue;
+            }
+
+            try (ShardContext.Scope scope = ShardContext.open(shard)) {
+                SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(), settings,
+                        DelayedDropRegistryNotAvailableImpl.INSTANCE);
+            }
+            log.info("Schema das tabelas particionadas aplicado ao {} ({})", shard, settings.get(SchemaToolingSettings.HBM2DDL_AUTO));
+        }
+    }
+
+    // Só a ação do hbm2ddl.auto, sem scripts nem ações do jakarta.persistence.schema-generation.
+    // create-drop vira create: o drop no encerramento só é registrado para o banco padrão
+    private static Map<String, Object> shardSettings(Map<String, Object> properties) {
+        Map<String, Object> settings = new HashMap<>(properties);
+        settings.keySet().removeIf(key -> key.contains("schema-generation"));
+
+        Object action = properties.getOrDefault(SchemaToolingSettings.HBM2DDL_AUTO, "none");
+        settings.put(SchemaToolingSettings.HBM2DDL_AUTO, "create-drop".equals(String.valueOf(action)) ? "create" : action);
+        settings.put(SchemaToolingSettings.HBM2DDL_FILTER_PROVIDER, new SchemaFilterProvider() {
+            @Override
+            public SchemaFilter getCreateFilter() {
+                return SHARDED_TABLES_ONLY;
+            }
+
+            @Override
+            public SchemaFilter getDropFilter() {
+                return SHARDED_TABLES_ONLY;
+            }
+
+            @Override
+            public SchemaFilter getTruncatorFilter() {
+                return SHARDED_TABLES_ONLY;
+            }
+
+            @Override
+            public SchemaFilter getMigrateFilter() {
+                return SHARDED_TABLES_ONLY;
+            }
+
+            @Override
+            public SchemaFilter getValidateFilter() {
+                return SHARDED_TABLES_ONLY;
+            }
+        });
+        return settings;
+    }
+}
@@ -0,0 +1,15 @@
+package com.portfolio.todolist.sharding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Os métodos da classe acessam dados do usuário autenticado: rodam no shard dele (ShardedByUserAspect).
+// Escritas (@Transactional sem readOnly) são recusadas com 503 enquanto o usuário migra de shard
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ShardedByUser {
+}
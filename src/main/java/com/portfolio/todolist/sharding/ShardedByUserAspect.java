@@ -0,0 +1,63 @@
+package com.portfolio.todolist.sharding;
+
+import com.portfolio.todolist.exception.ServiceOverloadedException;
+import com.portfolio.todolist.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+// Executa os métodos das classes @ShardedByUser no shard do usuário autenticado. Fica por fora do @Transactional
+// (maior precedência): a transação inteira, inclusive o commit, roda dentro do escopo do shard
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ShardedByUserAspect {
+
+    private final ShardDirectory shardDirectory;
+
+    @Value("${sharding.migration.retry-after:2s}")
+    private Duration retryAfter;
+
+    @Around("@within(com.portfolio.todolist.sharding.ShardedByUser)")
+    public Object routeToUserShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return joinPoint.proceed();
+        }
+
+        if (isWrite(joinPoint) && shardDirectory.isMigrating(userId)) {
+            throw new ServiceOverloadedException("Tarefas em migração entre bancos de dados, tente novamente em instantes",
+                    Math.max(1, retryAfter.toSeconds()));
+        }
+
+        try (ShardContext.Scope scope = ShardContext.open(shardDirectory.shardFor(userId))) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private static boolean isWrite(ProceedingJoinPoint joinPoint) {
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), Transactional.class);
+        return transactional != null && !transactional.readOnly();
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                ? principal.getId()
+                : null;
+    }
+}
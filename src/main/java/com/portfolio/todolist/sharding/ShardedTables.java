@@ -0,0 +1,13 @@
+package com.portfolio.todolist.sharding;
+
+import java.util.List;
+
+// Tabelas particionadas por usuário (coluna user_id), presentes em todos os shards. As demais (users, tokens,
+// diretório de shards, heartbeat) existem só no shard padrão
+public final class ShardedTables {
+
+    public static final List<String> ALL = List.of("tasks", "tasks_archive", "task_tombstones", "user_task_stats");
+
+    private ShardedTables() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.portfolio.todolist.sharding;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// ID gerado na aplicação pelo SnowflakeIdGenerator: único entre shards e instâncias, sem ida ao banco
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SnowflakeId {
+}
@@ -0,0 +1,63 @@
+package com.portfolio.todolist.sharding;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// IDs no estilo Snowflake com 53 bits (exatos no Number do JavaScript): 41 bits de milissegundos desde 2025-01-01Z
+// (~69 anos), 6 de worker (sharding.worker-id, único por instância) e 6 de sequência no milissegundo.
+// Crescentes por instância: passados 64 IDs no mesmo milissegundo (ou com o relógio voltando), o gerador avança
+// o timestamp em vez de esperar ou repetir
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String WORKER_ID_SETTING = "todolist.snowflake.worker_id";
+
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int WORKER_BITS = 6;
+    static final int SEQUENCE_BITS = 6;
+    static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+
+    // Um estado por JVM: vários SessionFactory (ex.: contextos de teste) não repetem IDs
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private final long workerId;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, GeneratorCreationContext context) {
+        this(context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSetting(WORKER_ID_SETTING, StandardConverters.INTEGER, 0));
+    }
+
+    SnowflakeIdGenerator(int workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("sharding.worker-id deve estar entre 0 e " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerId = workerId;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return nextId();
+    }
+
+    long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        long tick = LAST.updateAndGet(last -> Math.max(last + 1, now));
+        return (tick >>> SEQUENCE_BITS) << (WORKER_BITS + SEQUENCE_BITS)
+                | workerId << SEQUENCE_BITS
+                | tick & ((1 << SEQUENCE_BITS) - 1);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
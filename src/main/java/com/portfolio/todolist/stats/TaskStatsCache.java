@@ -0,0 +1,98 @@
+package com.portfolio.todolist.stats;
+
+import com.portfolio.todolist.dto.TaskStatsDTO;
+import com.portfolio.todolist.event.TaskChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Cache em memória dos contadores, dividido em faixas (stripes) com lock próprio para reduzir a contenção
+@Component
+public class TaskStatsCache {
+
+    private final Stripe[] stripes;
+
+    public TaskStatsCache(@Value("${tasks.stats.cache.stripes:16}") int stripeCount,
+                          @Value("${tasks.stats.cache.max-size:10000}") int maxSize) {
+        int perStripe = Math.max(1, maxSize / stripeCount);
+
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    // Busca no cache ou carrega do banco; o valor lido só é armazenado se nenhum commit ocorreu durante a leitura
+    public TaskStatsDTO get(Long userId, Function<Long, TaskStatsDTO> loader) {
+        Stripe stripe = stripeFor(userId);
+        long generation;
+
+        stripe.lock.lock();
+        try {
+            TaskStatsDTO cached = stripe.entries.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            generation = stripe.generation;
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        TaskStatsDTO stats = loader.apply(userId);
+
+        stripe.lock.lock();
+        try {
+            if (stripe.generation == generation) {
+                stripe.entries.put(userId, stats);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        return stats;
+    }
+
+    // Após o commit: descarta a entrada do usuário (a próxima leitura busca o resumo já atualizado)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        Stripe stripe = stripeFor(userId);
+
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(userId);
+            stripe.generation++;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripeFor(Long userId) {
+        return stripes[Math.floorMod(Long.hashCode(userId), stripes.length)];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, TaskStatsDTO> entries;
+        private long generation;
+
+        private Stripe(int maxEntries) {
+            // Ordem de acesso: ao exceder o limite, descarta a entrada usada há mais tempo
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, TaskStatsDTO> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+}
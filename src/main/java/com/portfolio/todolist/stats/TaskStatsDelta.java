@@ -0,0 +1,44 @@
+package com.portfolio.todolist.stats;
+
+import com.portfolio.todolist.model.TaskStatus;
+import lombok.Getter;
+
+// Variação acumulada dos contadores dentro de uma operação (aplicada com um único UPDATE)
+@Getter
+public class TaskStatsDelta {
+
+    private long pending;
+    private long inProgress;
+    private long completed;
+
+    public TaskStatsDelta add(TaskStatus status) {
+        change(status, 1);
+        return this;
+    }
+
+    public TaskStatsDelta remove(TaskStatus status) {
+        change(status, -1);
+        return this;
+    }
+
+    // Transição de status (não altera nada se o status continuar o mesmo)
+    public TaskStatsDelta move(TaskStatus from, TaskStatus to) {
+        if (from != to) {
+            remove(from);
+            add(to);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return pending == 0 && inProgress == 0 && completed == 0;
+    }
+
+    private void change(TaskStatus status, long amount) {
+        switch (status) {
+            case PENDING -> pending += amount;
+            case IN_PROGRESS -> inProgress += amount;
+            case COMPLETED -> completed += amount;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.portfolio.todolist.stats;
+
+import com.portfolio.todolist.repository.UserRepository;
+import com.portfolio.todolist.sharding.ShardContext;
+import com.portfolio.todolist.sharding.ShardDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Job periódico que recalcula os contadores a partir de tasks e corrige eventuais divergências. Os usuários (shard
+// padrão) são lidos em lotes e reconciliados no shard de cada um; quem está migrando fica para a próxima execução
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsReconciler {
+
+    private final UserRepository userRepository;
+    private final TaskStatsService statsService;
+    private final TaskStatsCache statsCache;
+    private final ShardDirectory shardDirectory;
+
+    @Value("${tasks.stats.reconcile.batch-size:500}")
+    private int batchSize;
+
+    // Percorre os usuários em lotes (uma transação curta por lote) para não bloquear os resumos por muito tempo
+    @Scheduled(initialDelayString = "${tasks.stats.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${tasks.stats.reconcile.interval-ms:3600000}")
+    public void reconcileAll() {
+        long lastUserId = 0;
+        int corrected = 0;
+
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, Limit.of(batchSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Map<String, List<Long>> byShard = userIds.stream()
+                    .filter(userId -> !shardDirectory.isMigrating(userId))
+                    .collect(Collectors.groupingBy(shardDirectory::shardFor));
+
+            for (Map.Entry<String, List<Long>> shard : byShard.entrySet()) {
+                try (ShardContext.Scope scope = ShardContext.open(shard.getKey())) {
+                    List<Long> changed = statsService.reconcile(shard.getValue());
+                    changed.forEach(statsCache::evict);
+                    corrected += changed.size();
+                } catch (DataAccessException e) {
+                    // Conflito com uma alteração concorrente: o lote é refeito na próxima execução
+                    log.warn("Falha ao reconciliar contadores dos usuários {}..{} no {}",
+                            userIds.getFirst(), userIds.getLast(), shard.getKey(), e);
+                }
+            }
+
+            lastUserId = userIds.getLast();
+        } while (userIds.size() == batchSize);
+
+        if (corrected > 0) {
+            log.info("Reconciliação dos contadores de tarefas corrigiu {} usuário(s)", corrected);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.portfolio.todolist.stats;
+
+import com.portfolio.todolist.dto.TaskStatsDTO;
+import com.portfolio.todolist.model.TaskStatus;
+import com.portfolio.todolist.model.UserTaskStats;
+import com.portfolio.todolist.repository.TaskQueryRepository;
+import com.portfolio.todolist.repository.TaskRepository;
+import com.portfolio.todolist.repository.UserTaskStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Contadores de tarefas por status: atualizados na mesma transação das alterações e lidos sem tocar em tasks
+@Service
+@RequiredArgsConstructor
+public class TaskStatsService {
+
+    private final UserTaskStatsRepository statsRepository;
+    private final TaskQueryRepository taskQueryRepository;
+    private final TaskRepository taskRepository;
+    private final TaskStatsCache statsCache;
+
+    // Leitura: cache em memória -> tabela de resumo -> contagem em tasks (usuário ainda sem resumo)
+    public TaskStatsDTO getStats(Long userId) {
+        return statsCache.get(userId, this::loadStats);
+    }
+
+    // Deve ser chamado depois das alterações em tasks, dentro da transação do TaskService
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelta(Long userId, TaskStatsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        int updated = statsRepository.applyDelta(userId, delta.getPending(), delta.getInProgress(), delta.getCompleted());
+
+        // Primeiro acesso do usuário: cria o resumo com a contagem real em um único statement atômico
+        // (duas primeiras alterações concorrentes não disputam a PK)
+        if (updated == 0) {
+            taskRepository.flush();
+            statsRepository.insertCountedOrApplyDelta(userId, delta.getPending(), delta.getInProgress(), delta.getCompleted());
+        }
+    }
+
+    // Recalcula os resumos do lote a partir de tasks; retorna os usuários cujo resumo foi corrigido
+    @Transactional
+    public List<Long> reconcile(List<Long> userIds) {
+        Map<Long, UserTaskStats> stored = statsRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserTaskStats::getUserId, Function.identity()));
+        Map<Long, UserTaskStats> counted = countTasks(userIds);
+
+        List<Long> corrected = new ArrayList<>();
+        for (Long userId : userIds) {
+            UserTaskStats expected = counted.get(userId);
+            UserTaskStats current = stored.get(userId);
+
+            if (current == null) {
+                statsRepository.save(expected);
+                corrected.add(userId);
+            } else if (!sameCounts(current, expected)) {
+                current.setPending(expected.getPending());
+                current.setInProgress(expected.getInProgress());
+                current.setCompleted(expected.getCompleted());
+                corrected.add(userId);
+            }
+        }
+
+        return corrected;
+    }
+
+    private TaskStatsDTO loadStats(Long userId) {
+        UserTaskStats stats = statsRepository.findById(userId)
+                .orElseGet(() -> countTasks(List.of(userId)).get(userId));
+
+        return TaskStatsDTO.of(stats);
+    }
+
+    // Contagem agrupada em uma consulta; usuários sem tarefas ficam com os contadores zerados
+    private Map<Long, UserTaskStats> countTasks(Collection<Long> userIds) {
+        Map<Long, UserTaskStats> result = new HashMap<>();
+        for (Long userId : userIds) {
+            result.put(userId, new UserTaskStats(userId, 0, 0, 0, null));
+        }
+
+        for (TaskStatusCount row : taskQueryRepository.countByStatus(userIds)) {
+            UserTaskStats stats = result.get(row.userId());
+
+            if (row.status() == TaskStatus.PENDING) {
+                stats.setPending(row.count());
+            } else if (row.status() == TaskStatus.IN_PROGRESS) {
+                stats.setInProgress(row.count());
+            } else if (row.status() == TaskStatus.COMPLETED) {
+                stats.setCompleted(row.count());
+            }
+        }
+
+        return result;
+    }
+
+    private boolean sameCounts(UserTaskStats a, UserTaskStats b) {
+        return a.getPending() == b.getPending()
+                && a.getInProgress() == b.getInProgress()
+                && a.getCompleted() == b.getCompleted();
+    }
+}
@@ -0,0 +1,7 @@
+package com.portfolio.todolist.stats;
+
+import com.portfolio.todolist.model.TaskStatus;
+
+// Linha da contagem agrupada por usuário e status
+public record TaskStatusCount(Long userId, TaskStatus status, long count) {
+}
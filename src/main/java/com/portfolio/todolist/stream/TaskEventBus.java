@@ -0,0 +1,256 @@
+package com.portfolio.todolist.stream;
+
+import com.portfolio.todolist.dto.TaskChangeDTO;
+import com.portfolio.todolist.event.TaskChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Barramento em memória do feed SSE: numera os eventos após o commit, guarda os últimos para retomada
+// (Last-Event-ID) e distribui para as filas dos assinantes do usuário.
+// Os assinantes ficam em faixas (stripes) por usuário, cada uma com lock próprio: publicar para um usuário não
+// espera por outro. O histórico é um mapa ordenado pela sequência, lido sem lock na retomada
+@Component
+public class TaskEventBus implements SmartLifecycle {
+
+    // Prefixo por inicialização: ids anteriores a um restart não são confundidos com os atuais
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Stripe[] stripes;
+    private final int replaySize;
+    private final ConcurrentSkipListMap<Long, TaskStreamEvent> replayLog = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Maior sequência já descartada do histórico (retomadas anteriores a ela recebem reset)
+    private final AtomicLong discardedUpTo = new AtomicLong();
+
+    private volatile boolean running;
+
+    @Value("${tasks.stream.buffer-size:1024}")
+    private int bufferSize;
+
+    @Value("${tasks.stream.max-subscribers-per-user:5}")
+    private int maxSubscribersPerUser;
+
+    @Value("${tasks.stream.heartbeat-interval:15s}")
+    private Duration heartbeatInterval;
+
+    @Value("${tasks.stream.timeout:30m}")
+    private Duration timeout;
+
+    public TaskEventBus(@Value("${tasks.stream.replay-size:10000}") int replaySize,
+                        @Value("${tasks.stream.stripes:16}") int stripeCount) {
+        this.replaySize = replaySize;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // Após o commit: numera, registra no histórico e entrega sem bloquear (fila cheia = assinante descartado).
+    // Numeração e registro acontecem com o lock da faixa do usuário: quem o adquire depois vê no histórico todos os
+    // eventos do usuário até a sequência atual
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<TaskStreamSubscriber> dropped = new ArrayList<>();
+        Stripe stripe = stripeFor(event.userId());
+        long published;
+
+        stripe.lock.lock();
+        try {
+            published = sequence.incrementAndGet();
+            TaskStreamEvent streamEvent = new TaskStreamEvent(published, event.userId(),
+                    event.type().name().toLowerCase(Locale.ROOT), TaskChangeDTO.of(event));
+            replayLog.put(published, streamEvent);
+
+            List<TaskStreamSubscriber> userSubscribers = stripe.subscribers.get(event.userId());
+            if (userSubscribers != null) {
+                for (TaskStreamSubscriber subscriber : userSubscribers) {
+                    if (!subscriber.offer(streamEvent)) {
+                        dropped.add(subscriber);
+                    }
+                }
+                dropped.forEach(subscriber -> stripe.remove(subscriber));
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        discardOlderThan(published - replaySize);
+
+        // Consumidor lento: a conexão é encerrada e o cliente retoma pelo Last-Event-ID ao reconectar
+        dropped.forEach(TaskStreamSubscriber::close);
+    }
+
+    // A retomada percorre o histórico sem lock; com o lock da faixa só são entregues os eventos publicados durante
+    // esse percurso, logo antes de o assinante passar a receber os novos (sem perdas nem inversão de ordem)
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(userId, epoch, emitter, bufferSize, heartbeatInterval);
+        TaskStreamSubscriber evicted = null;
+        Stripe stripe = stripeFor(userId);
+
+        long replayedUpTo = lastEventId != null ? replay(subscriber, stripe, parseSequence(lastEventId)) : -1;
+
+        stripe.lock.lock();
+        try {
+            if (replayedUpTo >= 0) {
+                offerAfter(subscriber, replayedUpTo, sequence.get());
+            }
+
+            // Limite de conexões por usuário: a mais antiga dá lugar à nova
+            List<TaskStreamSubscriber> userSubscribers = stripe.subscribers.computeIfAbsent(userId, id -> new ArrayList<>());
+            if (userSubscribers.size() >= maxSubscribersPerUser) {
+                evicted = userSubscribers.removeFirst();
+            }
+            userSubscribers.add(subscriber);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (evicted != null) {
+            evicted.close();
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscriber.start();
+        return emitter;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // Encerra as conexões antes do graceful shutdown do servidor, que do contrário esperaria por elas até o timeout
+    @Override
+    public void stop() {
+        running = false;
+        List<TaskStreamSubscriber> all = new ArrayList<>();
+
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.subscribers.values().forEach(all::addAll);
+                stripe.subscribers.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        all.forEach(TaskStreamSubscriber::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void unsubscribe(TaskStreamSubscriber subscriber) {
+        Stripe stripe = stripeFor(subscriber.userId());
+
+        stripe.lock.lock();
+        try {
+            stripe.remove(subscriber);
+        } finally {
+            stripe.lock.unlock();
+        }
+        subscriber.close();
+    }
+
+    // Reenfileira os eventos do usuário posteriores a lastSequence, ou envia um reset (id desconhecido, já fora do
+    // histórico ou retomada maior que a fila). Retorna até qual sequência percorreu, ou -1 após um reset
+    private long replay(TaskStreamSubscriber subscriber, Stripe stripe, long lastSequence) {
+        // Lida com o lock: todos os eventos do usuário até ela já estão no histórico
+        long upTo;
+        stripe.lock.lock();
+        try {
+            upTo = sequence.get();
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        // Conferido de novo após o percurso: o descarte pode ter alcançado eventos ainda não lidos
+        if (lastSequence < 0 || lastSequence > upTo || lastSequence < discardedUpTo.get()
+                || !offerAfter(subscriber, lastSequence, upTo) || lastSequence < discardedUpTo.get()) {
+            subscriber.reset(TaskStreamEvent.reset(upTo, subscriber.userId()));
+            return -1;
+        }
+
+        return upTo;
+    }
+
+    // Oferece os eventos do usuário no intervalo (after, upTo]; false se não couberem na fila (já com reset)
+    private boolean offerAfter(TaskStreamSubscriber subscriber, long after, long upTo) {
+        ConcurrentNavigableMap<Long, TaskStreamEvent> range = replayLog.subMap(after, false, upTo, true);
+
+        for (TaskStreamEvent event : range.values()) {
+            if (event.userId().equals(subscriber.userId()) && !subscriber.offer(event)) {
+                subscriber.reset(TaskStreamEvent.reset(upTo, subscriber.userId()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Mantém no histórico só as últimas replay-size sequências
+    private void discardOlderThan(long oldest) {
+        if (oldest > 0) {
+            discardedUpTo.accumulateAndGet(oldest, Math::max);
+            replayLog.headMap(oldest, true).clear();
+        }
+    }
+
+    // Formato do id: "<epoch>-<sequência>"; -1 quando é de outra inicialização ou inválido
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+
+        if (separator <= 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Stripe stripeFor(Long userId) {
+        return stripes[Math.floorMod(Long.hashCode(userId), stripes.length)];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, List<TaskStreamSubscriber>> subscribers = new HashMap<>();
+
+        // Chamado com o lock da faixa
+        private void remove(TaskStreamSubscriber subscriber) {
+            List<TaskStreamSubscriber> userSubscribers = subscribers.get(subscriber.userId());
+
+            if (userSubscribers != null) {
+                userSubscribers.remove(subscriber);
+                if (userSubscribers.isEmpty()) {
+                    subscribers.remove(subscriber.userId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.portfolio.todolist.stream;
+
+import java.util.Map;
+
+// Evento enviado pelo SSE: sequence é a posição global (usada no id para retomada via Last-Event-ID)
+record TaskStreamEvent(long sequence, Long userId, String name, Object data) {
+
+    // Avisa o cliente que não foi possível retomar: ele deve recarregar a lista e seguir a partir deste id
+    static TaskStreamEvent reset(long sequence, Long userId) {
+        return new TaskStreamEvent(sequence, userId, "reset", Map.of());
+    }
+}
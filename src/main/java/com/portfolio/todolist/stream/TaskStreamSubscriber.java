@@ -0,0 +1,86 @@
+package com.portfolio.todolist.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Uma conexão SSE: fila limitada alimentada pelo barramento e esvaziada por uma virtual thread própria,
+// de modo que um cliente lento nunca bloqueia quem publica
+class TaskStreamSubscriber {
+
+    private final Long userId;
+    private final String epoch;
+    private final SseEmitter emitter;
+    private final BlockingQueue<TaskStreamEvent> queue;
+    private final Duration heartbeatInterval;
+
+    private volatile boolean closed;
+    private Thread worker;
+
+    TaskStreamSubscriber(Long userId, String epoch, SseEmitter emitter, int bufferSize, Duration heartbeatInterval) {
+        this.userId = userId;
+        this.epoch = epoch;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    // Não bloqueia: false indica fila cheia (o barramento descarta o assinante)
+    boolean offer(TaskStreamEvent event) {
+        return !closed && queue.offer(event);
+    }
+
+    // Substitui o que estiver pendente por um único reset (usado quando a retomada não cabe na fila)
+    void reset(TaskStreamEvent reset) {
+        queue.clear();
+        queue.offer(reset);
+    }
+
+    void start() {
+        worker = Thread.ofVirtual().name("task-stream-" + userId).start(this::drain);
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        emitter.complete();
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                TaskStreamEvent event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+                if (event == null) {
+                    // Heartbeat: comentário SSE (ignorado pelo cliente) que mantém a conexão e proxies ativos
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(epoch + "-" + event.sequence())
+                            .name(event.name())
+                            .data(event.data(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectou (ou o emitter já foi finalizado)
+            close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
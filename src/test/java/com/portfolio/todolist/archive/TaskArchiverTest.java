@@ -0,0 +1,73 @@
+package com.portfolio.todolist.archive;
+
+import com.jayway.jsonpath.JsonPath;
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Arquivamento e restauração vistos pela sincronização incremental: arquivar é uma remoção, restaurar uma alteração
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskArchiverTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    private TestUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = testUsers.create("arquivo");
+    }
+
+    @Test
+    void archivedTasksAreReportedAsDeletedUntilRestored() throws Exception {
+        long archived = createTask("Concluída");
+        long kept = createTask("Pendente");
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", archived)).content("{\"status\":\"COMPLETED\",\"version\":0}"))
+                .andExpect(status().isOk());
+
+        taskArchiver.archiveCompletedBefore(LocalDateTime.now().plusSeconds(1));
+
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")))
+                .andExpect(jsonPath("$.deleted").value(hasItem(archived)))
+                .andExpect(jsonPath("$.changed[*].id").value(not(hasItem(archived))))
+                .andExpect(jsonPath("$.changed[*].id").value(hasItem(kept)));
+
+        mockMvc.perform(user.authenticated(post("/api/tasks/{id}/restore", archived)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")))
+                .andExpect(jsonPath("$.deleted").value(empty()))
+                .andExpect(jsonPath("$.changed[*].id").value(hasItem(archived)));
+    }
+
+    private long createTask(String title) throws Exception {
+        String created = mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"" + title + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.<Number>read(created, "$.id").longValue();
+    }
+}
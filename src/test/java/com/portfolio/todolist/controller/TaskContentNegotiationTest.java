@@ -0,0 +1,124 @@
+package com.portfolio.todolist.controller;
+
+import com.portfolio.todolist.format.TaskMediaTypes;
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Formatos negociados pelo Accept nas listagens, com o GET condicional de cada um. A compressão é do Tomcat (não
+// passa pelo MockMvc): conferida com requisições reais ao servidor na porta aleatória, com a configuração de produção
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.compression.enabled=true",
+        "server.compression.min-response-size=1KB",
+        "server.compression.mime-types=application/json,application/vnd.todolist.columnar+json,application/cbor,application/x-jackson-smile"
+})
+@AutoConfigureMockMvc
+class TaskContentNegotiationTest {
+
+    // Acima de server.compression.min-response-size (1KB) em todos os formatos
+    private static final int TASKS = 40;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    private TestUser user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        user = testUsers.create("formato");
+
+        String tasks = IntStream.range(0, TASKS)
+                .mapToObj(i -> "{\"title\":\"Tarefa %d\",\"description\":\"Descrição longa o bastante da tarefa %d\"}".formatted(i, i))
+                .collect(Collectors.joining(",", "{\"tasks\":[", "]}"));
+        mockMvc.perform(user.authenticated(post("/api/tasks/batch")).content(tasks))
+                .andExpect(status().isOk());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {MediaType.APPLICATION_JSON_VALUE, TaskMediaTypes.COLUMNAR_JSON_VALUE, TaskMediaTypes.CBOR_VALUE, TaskMediaTypes.SMILE_VALUE})
+    void listRespondsInTheAcceptedFormat(String format) throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks")).accept(format))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(format))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {MediaType.APPLICATION_JSON_VALUE, TaskMediaTypes.COLUMNAR_JSON_VALUE, TaskMediaTypes.CBOR_VALUE, TaskMediaTypes.SMILE_VALUE})
+    void unchangedListIsNotModifiedInEveryFormat(String format) throws Exception {
+        String etag = mockMvc.perform(user.authenticated(get("/api/tasks")).accept(format))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).startsWith("W/\"");
+        mockMvc.perform(user.authenticated(get("/api/tasks")).accept(format).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        // Qualquer alteração invalida a ETag de todos os formatos
+        mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"Nova\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(user.authenticated(get("/api/tasks")).accept(format).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    // A ETag (fraca) não impede o gzip da primeira leitura nem de uma lista alterada
+    @ParameterizedTest
+    @ValueSource(strings = {MediaType.APPLICATION_JSON_VALUE, TaskMediaTypes.COLUMNAR_JSON_VALUE, TaskMediaTypes.CBOR_VALUE, TaskMediaTypes.SMILE_VALUE})
+    void listWithETagIsCompressed(String format) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks?size=" + TASKS))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + user.token())
+                .header(HttpHeaders.ACCEPT, format)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+
+        HttpResponse<byte[]> response;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(response.headers().firstValue(HttpHeaders.ETAG)).hasValueSatisfying(etag -> assertThat(etag).startsWith("W/\""));
+        MediaType contentType = MediaType.parseMediaType(response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElseThrow());
+        assertThat(contentType.isCompatibleWith(MediaType.parseMediaType(format))).isTrue();
+
+        byte[] body;
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            body = gzip.readAllBytes();
+        }
+        assertThat(body.length).isGreaterThan(1024).isGreaterThan(response.body().length);
+    }
+}
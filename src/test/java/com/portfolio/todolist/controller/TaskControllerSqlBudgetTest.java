@@ -0,0 +1,313 @@
+package com.portfolio.todolist.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.portfolio.todolist.archive.TaskArchiver;
+import com.portfolio.todolist.service.TaskCache;
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.portfolio.todolist.monitoring.SqlStatementBudget.atMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Orçamento de statements SQL de cada endpoint do TaskController. Cada teste usa um usuário novo (caches frios)
+// com TASKS tarefas: um N+1 (ex.: carregar o usuário de cada tarefa) estoura o orçamento e quebra o build.
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskControllerSqlBudgetTest {
+
+    private static final int TASKS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private TestUser user;
+    private List<Number> taskIds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        user = testUsers.create("sql");
+
+        String tasks = IntStream.range(0, TASKS)
+                .mapToObj(i -> "{\"title\":\"Tarefa %d\",\"description\":\"descrição %d\"}".formatted(i, i))
+                .collect(Collectors.joining(",", "{\"tasks\":[", "]}"));
+        MvcResult result = mockMvc.perform(user.authenticated(post("/api/tasks/batch")).content(tasks))
+                .andExpect(status().isOk())
+                .andReturn();
+        taskIds = JsonPath.read(result.getResponse().getContentAsString(), "$.results[*].id");
+    }
+
+    @Test
+    void createTask() throws Exception {
+        // INSERT + contadores de status (o ID é gerado na aplicação)
+        mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"Nova tarefa\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void getAllTasks() throws Exception {
+        MvcResult firstPage = mockMvc.perform(user.authenticated(get("/api/tasks")).param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1))
+                .andReturn();
+
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+        mockMvc.perform(user.authenticated(get("/api/tasks")).param("size", "5").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    // Uma consulta em tasks e outra em tasks_archive, intercaladas na memória
+    @Test
+    void getAllTasksIncludingArchived() throws Exception {
+        archiveFirstTask();
+
+        mockMvc.perform(user.authenticated(get("/api/tasks")).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(TASKS))
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void getAllTasksNotModified() throws Exception {
+        String etag = mockMvc.perform(user.authenticated(get("/api/tasks")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(user.authenticated(get("/api/tasks")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(atMost(0));
+    }
+
+    // ETag por formato: a do JSON não revalida a resposta em CBOR
+    @Test
+    void getAllTasksNotModifiedPerFormat() throws Exception {
+        String json = mockMvc.perform(user.authenticated(get("/api/tasks")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cbor = mockMvc.perform(user.authenticated(get("/api/tasks")).accept(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(json).startsWith("W/\"");
+        assertThat(cbor).isEqualTo(json.substring(0, json.length() - 1) + "-cbor\"");
+
+        mockMvc.perform(user.authenticated(get("/api/tasks")).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk());
+        mockMvc.perform(user.authenticated(get("/api/tasks")).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified())
+                .andExpect(atMost(0));
+    }
+
+    @Test
+    void getTaskById() throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks/{id}", taskIds.getFirst())))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    // Ausente em tasks: busca no arquivo
+    @Test
+    void getArchivedTaskById() throws Exception {
+        archiveFirstTask();
+
+        mockMvc.perform(user.authenticated(get("/api/tasks/{id}", taskIds.getFirst())).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived").value(true))
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void getTasksByStatus() throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks/status/PENDING")))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void searchTasks() throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks/search")).param("title", "tarefa"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void getTaskStats() throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks/stats")))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void exportTasks() throws Exception {
+        MvcResult result = mockMvc.perform(user.authenticated(get("/api/tasks/export")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    // Tarefas alteradas + tombstones
+    @Test
+    void getChanges() throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void streamTaskChanges() throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks/stream")))
+                .andExpect(request().asyncStarted())
+                .andExpect(atMost(0));
+    }
+
+    @Test
+    void updateTask() throws Exception {
+        mockMvc.perform(user.authenticated(put("/api/tasks/{id}", taskIds.getFirst()))
+                        .content("{\"title\":\"Atualizada\",\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    // Alternar o status: UPDATE condicional + contadores de status, sem SELECT (estado anterior no cache)
+    @Test
+    void patchTask() throws Exception {
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", taskIds.getFirst()))
+                        .content("{\"status\":\"COMPLETED\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.title").value("Tarefa 0"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(atMost(2));
+    }
+
+    // Troca de status sem o estado anterior no cache: SELECT (status anterior e resposta), UPDATE condicional e
+    // contadores de status. A leitura vem antes do UPDATE, e não depois dele, para não precisar de uma quarta
+    @Test
+    void patchTaskStatusWithoutCachedTask() throws Exception {
+        cacheManager.getCache(TaskCache.CACHE_NAME).clear();
+
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", taskIds.getFirst()))
+                        .content("{\"status\":\"COMPLETED\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.title").value("Tarefa 0"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(atMost(3));
+        mockMvc.perform(user.authenticated(get("/api/tasks/stats")))
+                .andExpect(jsonPath("$.completed").value(1))
+                .andExpect(jsonPath("$.pending").value(TASKS - 1));
+    }
+
+    // Só o título: apenas o UPDATE condicional
+    @Test
+    void patchTaskTitle() throws Exception {
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", taskIds.getFirst()))
+                        .content("{\"title\":\"Renomeada\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renomeada"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(atMost(1));
+    }
+
+    // UPDATE sem linhas + leitura para separar 409 de 404
+    @Test
+    void patchTaskWithStaleVersion() throws Exception {
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", taskIds.getFirst()))
+                        .content("{\"title\":\"Concorrente\",\"version\":7}"))
+                .andExpect(status().isConflict())
+                .andExpect(atMost(2));
+    }
+
+    // SELECT, DELETE, contadores de status e tombstone
+    @Test
+    void deleteTask() throws Exception {
+        mockMvc.perform(user.authenticated(delete("/api/tasks/{id}", taskIds.getFirst())))
+                .andExpect(status().isNoContent())
+                .andExpect(atMost(4));
+    }
+
+    // SELECT no arquivo, INSERT ... SELECT em tasks, DELETE no arquivo, DELETE do tombstone e contadores de status
+    @Test
+    void restoreTask() throws Exception {
+        archiveFirstTask();
+
+        mockMvc.perform(user.authenticated(post("/api/tasks/{id}/restore", taskIds.getFirst())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(2))
+                .andExpect(atMost(5));
+    }
+
+    @Test
+    void createTasks() throws Exception {
+        String tasks = IntStream.range(0, TASKS)
+                .mapToObj(i -> "{\"title\":\"Lote %d\"}".formatted(i))
+                .collect(Collectors.joining(",", "{\"tasks\":[", "]}"));
+
+        // Um lote de INSERTs e contadores de status
+        mockMvc.perform(user.authenticated(post("/api/tasks/batch")).content(tasks))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    @Test
+    void updateTasks() throws Exception {
+        String tasks = taskIds.stream()
+                .map(id -> "{\"id\":%d,\"title\":\"Lote %d\",\"status\":\"IN_PROGRESS\"}".formatted(id, id))
+                .collect(Collectors.joining(",", "{\"tasks\":[", "]}"));
+
+        mockMvc.perform(user.authenticated(put("/api/tasks/batch")).content(tasks))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    @Test
+    void deleteTasks() throws Exception {
+        String ids = taskIds.stream().map(String::valueOf).collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+
+        mockMvc.perform(user.authenticated(delete("/api/tasks/batch")).content(ids))
+                .andExpect(status().isOk())
+                .andExpect(atMost(4));
+    }
+
+    private void archiveFirstTask() throws Exception {
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", taskIds.getFirst()))
+                        .content("{\"status\":\"COMPLETED\",\"version\":0}"))
+                .andExpect(status().isOk());
+        taskArchiver.archiveCompletedBefore(LocalDateTime.now().plusSeconds(1));
+    }
+}
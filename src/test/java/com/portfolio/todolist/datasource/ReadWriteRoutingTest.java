@@ -0,0 +1,169 @@
+package com.portfolio.todolist.datasource;
+
+import com.jayway.jsonpath.JsonPath;
+import com.portfolio.todolist.service.TaskCache;
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Roteamento leitura/escrita com dois H2 em memória: o "primário" (schema do Hibernate) e a "réplica", copiada do
+// primário sob demanda (SCRIPT/RUNSCRIPT faz o papel da replicação). Depois da cópia, o título da tarefa é alterado
+// só na réplica, para saber de qual banco cada leitura veio. Os jobs de heartbeat e verificação são chamados pelo teste
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingTest.PRIMARY_URL,
+        "datasource.replica.urls=" + ReadWriteRoutingTest.REPLICA_URL,
+        "datasource.replica.read-your-writes-window=" + ReadWriteRoutingTest.WINDOW_MS + "ms",
+        "datasource.replica.max-lag=1m",
+        "datasource.replica.initial-delay-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final long WINDOW_MS = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private ReplicaDataSources replicaDataSources;
+
+    @Autowired
+    private ReplicaHealthChecker healthChecker;
+
+    @Autowired
+    private TaskCache taskCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private TestUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = testUsers.create("rw");
+    }
+
+    @Test
+    void readsGoToReplicaOutsideTheReadYourWritesWindow() throws Exception {
+        String created = mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"Primário\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Number id = JsonPath.read(created, "$.id");
+
+        replicate();
+        executeOnReplica("update tasks set title = 'Réplica' where id = " + id);
+        healthChecker.check();
+        assertThat(replicaDataSources.all()).allMatch(Replica::isHealthy);
+
+        // Acabou de escrever: lê do primário
+        listTitle().andExpect(jsonPath("$.content[0].title").value("Primário"));
+
+        awaitWindow();
+        listTitle().andExpect(jsonPath("$.content[0].title").value("Réplica"));
+        mockMvc.perform(user.authenticated(get("/api/tasks/status/PENDING")))
+                .andExpect(jsonPath("$.content[0].title").value("Réplica"));
+
+        // Leitura por ID vinda da réplica (possivelmente atrasada) não entra no cache compartilhado
+        cacheManager.getCache(TaskCache.CACHE_NAME).clear();
+        mockMvc.perform(user.authenticated(get("/api/tasks/{id}", id)))
+                .andExpect(jsonPath("$.title").value("Réplica"));
+        assertThat(taskCache.get(user.id(), id.longValue())).isEmpty();
+
+        // A escrita vai ao primário (a réplica não conhece a nova versão) e prende o usuário a ele de novo
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", id)).content("{\"title\":\"Editada\",\"version\":0}"))
+                .andExpect(status().isOk());
+        listTitle().andExpect(jsonPath("$.content[0].title").value("Editada"));
+
+        awaitWindow();
+        listTitle().andExpect(jsonPath("$.content[0].title").value("Réplica"));
+    }
+
+    @Test
+    void laggingOrUnreachableReplicasLeaveTheRotation() throws Exception {
+        String created = mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"Primário\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Number id = JsonPath.read(created, "$.id");
+
+        replicate();
+        executeOnReplica("update tasks set title = 'Réplica' where id = " + id);
+        awaitWindow();
+
+        // Heartbeat replicado há mais de max-lag
+        executeOnReplica("update replica_heartbeat set beat_at = dateadd('HOUR', -1, beat_at)");
+        healthChecker.check();
+        assertThat(replicaDataSources.all()).noneMatch(Replica::isHealthy);
+        listTitle().andExpect(jsonPath("$.content[0].title").value("Primário"));
+
+        executeOnReplica("update replica_heartbeat set beat_at = current_timestamp");
+        healthChecker.check();
+        listTitle().andExpect(jsonPath("$.content[0].title").value("Réplica"));
+
+        // Réplica sem o schema (heartbeat ilegível)
+        executeOnReplica("drop all objects");
+        healthChecker.check();
+        assertThat(replicaDataSources.all()).noneMatch(Replica::isHealthy);
+        listTitle().andExpect(status().isOk()).andExpect(jsonPath("$.content[0].title").value("Primário"));
+    }
+
+    private ResultActions listTitle() throws Exception {
+        return mockMvc.perform(user.authenticated(get("/api/tasks")));
+    }
+
+    // Grava o heartbeat no primário e copia o banco inteiro para a réplica
+    private void replicate() throws SQLException {
+        healthChecker.beat();
+
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet resultSet = statement.executeQuery("script")) {
+            while (resultSet.next()) {
+                script.add(resultSet.getString(1));
+            }
+        }
+
+        executeOnReplica("drop all objects");
+        for (String sql : script) {
+            executeOnReplica(sql);
+        }
+    }
+
+    private static void executeOnReplica(String sql) throws SQLException {
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static void awaitWindow() throws InterruptedException {
+        Thread.sleep(WINDOW_MS + 200);
+    }
+}
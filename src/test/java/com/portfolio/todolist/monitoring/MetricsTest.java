@@ -0,0 +1,101 @@
+package com.portfolio.todolist.monitoring;
+
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Instrumentação do caminho quente: cada requisição deve alimentar os timers e contadores registrados
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private TestUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = testUsers.create("metricas", passwordEncoder.encode("senha123"));
+    }
+
+    @Test
+    void serviceMethodsAreTimed() throws Exception {
+        long before = count("task.service", "method", "getAllTasks");
+
+        mockMvc.perform(user.authenticated(get("/api/tasks"))).andExpect(status().isOk());
+
+        assertThat(count("task.service", "method", "getAllTasks")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void jwtVerificationIsTimedByResult() throws Exception {
+        long valid = count("security.jwt.verify", "result", "valid");
+        long invalid = count("security.jwt.verify", "result", "invalid");
+
+        mockMvc.perform(user.authenticated(get("/api/tasks"))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer adulterado"));
+
+        assertThat(count("security.jwt.verify", "result", "valid")).isEqualTo(valid + 1);
+        assertThat(count("security.jwt.verify", "result", "invalid")).isEqualTo(invalid + 1);
+    }
+
+    @Test
+    void loginRecordsPasswordHashingTime() throws Exception {
+        long before = count("security.password.hashing", "operation", "matches");
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + user.user().getUsername() + "\",\"password\":\"senha123\"}")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.1.1");
+                            return request;
+                        }))
+                .andExpect(status().isOk());
+
+        assertThat(count("security.password.hashing", "operation", "matches")).isEqualTo(before + 1);
+        assertThat(count("auth.service", "method", "login")).isPositive();
+    }
+
+    // Statements por sessão do Hibernate (uma por requisição com open-in-view)
+    @Test
+    void hibernateSessionsReportTheirStatements() throws Exception {
+        long sessions = meterRegistry.get("hibernate.session.statements").summary().count();
+        double statements = meterRegistry.get("hibernate.session.statements").summary().totalAmount();
+
+        mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"Medida\"}"))
+                .andExpect(status().isCreated());
+
+        assertThat(meterRegistry.get("hibernate.session.statements").summary().count()).isGreaterThan(sessions);
+        assertThat(meterRegistry.get("hibernate.session.statements").summary().totalAmount()).isGreaterThan(statements);
+    }
+
+    private long count(String name, String tag, String value) {
+        Timer timer = meterRegistry.find(name).tag(tag, value).timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
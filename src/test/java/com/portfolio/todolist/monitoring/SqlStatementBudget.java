@@ -0,0 +1,27 @@
+package com.portfolio.todolist.monitoring;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Orçamento de statements SQL por requisição nos testes com MockMvc (contagem do SqlStatementCountFilter):
+// mvc.perform(get("/api/tasks")).andExpect(SqlStatementBudget.atMost(2))
+// Em respostas assíncronas, verifique o resultado do asyncDispatch para incluir o corpo gerado em outra thread.
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> assertThat(count(result))
+                .as("statements SQL em %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    public static int count(MvcResult result) {
+        Object count = result.getRequest().getAttribute(SqlStatementCountFilter.STATEMENT_COUNT_ATTRIBUTE);
+        assertThat(count).as("SqlStatementCountFilter não executou (sql.statement-count.enabled?)").isNotNull();
+        return (Integer) count;
+    }
+}
@@ -0,0 +1,78 @@
+package com.portfolio.todolist.ratelimit;
+
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Limites baixos na busca (sobrescritos por propriedade) para esgotar a rajada em poucas requisições
+@SpringBootTest(properties = {
+        "rate-limit.search.capacity=3",
+        "rate-limit.search.per-second=0.1"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    private TestUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = testUsers.create("limite");
+    }
+
+    @Test
+    void propertiesOverrideOnlyTheLimitsTheyName() {
+        assertThat(properties.limitFor(EndpointClass.SEARCH).getCapacity()).isEqualTo(3);
+        assertThat(properties.limitFor(EndpointClass.SEARCH).getPerSecond()).isEqualTo(0.1);
+        assertThat(properties.limitFor(EndpointClass.READ).getCapacity()).isEqualTo(100);
+    }
+
+    @Test
+    void exhaustedBurstRespondsTooManyRequestsWithRetryAfter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(user.authenticated(get("/api/tasks/search").param("title", "tarefa")))
+                    .andExpect(status().isOk());
+        }
+
+        // Uma ficha a cada 10 s: o cliente é orientado a esperar esse tempo
+        mockMvc.perform(user.authenticated(get("/api/tasks/search").param("title", "tarefa")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // Os outros limites do mesmo usuário seguem independentes
+        mockMvc.perform(user.authenticated(get("/api/tasks")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bucketsArePerUser() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(user.authenticated(get("/api/tasks/search").param("title", "tarefa")));
+        }
+
+        setUp();
+        mockMvc.perform(user.authenticated(get("/api/tasks/search").param("title", "tarefa")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,75 @@
+package com.portfolio.todolist.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GCRA com relógio controlado: rajada de "capacity" requisições, depois uma a cada intervalo
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsABurstUpToTheCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 1, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(0)).isZero();
+        }
+
+        // Sexta no mesmo instante: espera exatamente um intervalo pela próxima ficha
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.tryConsume(SECOND / 4)).isEqualTo(SECOND / 4);
+        assertThat(bucket.tryConsume(SECOND / 2)).isZero();
+        assertThat(bucket.tryConsume(SECOND / 2)).isPositive();
+
+        // Ocioso por mais que a reposição completa: a rajada volta inteira, sem acumular além dela
+        long later = 10 * SECOND;
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(1, 1, 0);
+        bucket.tryConsume(0);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryConsume(SECOND / 2)).isPositive();
+        }
+
+        assertThat(bucket.tryConsume(SECOND)).isZero();
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedTheCapacity() {
+        TokenBucket bucket = new TokenBucket(100, 1, 0);
+        AtomicInteger allowed = new AtomicInteger();
+
+        IntStream.range(0, 1000).parallel().forEach(i -> {
+            if (bucket.tryConsume(0) == 0) {
+                allowed.incrementAndGet();
+            }
+        });
+
+        assertThat(allowed).hasValue(100);
+    }
+
+    @Test
+    void refillTimeCoversTheWholeBurst() {
+        assertThat(TokenBucket.refillNanos(20, 5)).isEqualTo(4 * SECOND);
+    }
+}
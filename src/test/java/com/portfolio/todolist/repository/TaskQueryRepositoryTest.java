@@ -0,0 +1,127 @@
+package com.portfolio.todolist.repository;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.model.Task;
+import com.portfolio.todolist.model.TaskStatus;
+import com.portfolio.todolist.model.User;
+import com.portfolio.todolist.stats.TaskStatusCount;
+import com.portfolio.todolist.support.TestUsers;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Camada de leitura: DTOs projetados na consulta, sem entidades no contexto de persistência
+@SpringBootTest
+class TaskQueryRepositoryTest {
+
+    private static final int TASKS = 7;
+
+    @Autowired
+    private TaskQueryRepository taskQueryRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User user;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        user = testUsers.create("leitura").user();
+
+        tasks = taskRepository.saveAll(IntStream.range(0, TASKS)
+                .mapToObj(i -> {
+                    Task task = new Task();
+                    task.setTitle("Tarefa " + i);
+                    task.setDescription(i % 2 == 0 ? "Descrição " + i : null);
+                    task.setStatus(i < 3 ? TaskStatus.PENDING : TaskStatus.COMPLETED);
+                    task.setUser(user);
+                    return task;
+                })
+                .toList());
+    }
+
+    @Test
+    void projectionsLeaveThePersistenceContextEmpty() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+            taskQueryRepository.findFirstPage(user.getId(), Limit.of(TASKS));
+            taskQueryRepository.findByIdAndUserId(tasks.getFirst().getId(), user.getId());
+            try (var stream = taskQueryRepository.streamByUserId(user.getId())) {
+                assertThat(stream.count()).isEqualTo(TASKS);
+            }
+
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        });
+    }
+
+    @Test
+    void dtosCarryTheStoredColumns() {
+        Task stored = tasks.get(2);
+
+        TaskResponseDTO dto = taskQueryRepository.findByIdAndUserId(stored.getId(), user.getId()).orElseThrow();
+
+        assertThat(dto.getTitle()).isEqualTo(stored.getTitle());
+        assertThat(dto.getDescription()).isEqualTo(stored.getDescription());
+        assertThat(dto.getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(dto.getVersion()).isZero();
+        assertThat(dto.getCreatedAt()).isNotNull();
+
+        // Outro usuário não enxerga a tarefa
+        assertThat(taskQueryRepository.findByIdAndUserId(stored.getId(), user.getId() + 1_000_000)).isEmpty();
+    }
+
+    // Páginas por cursor (createdAt, id) cobrem todas as tarefas uma única vez, na ordem da listagem
+    @Test
+    void keysetPagesCoverEveryTaskOnceInOrder() {
+        List<TaskResponseDTO> seen = new ArrayList<>();
+        List<TaskResponseDTO> page = taskQueryRepository.findFirstPage(user.getId(), Limit.of(3));
+
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            TaskResponseDTO last = page.getLast();
+            page = taskQueryRepository.findPageAfter(user.getId(), last.getCreatedAt(), last.getId(), Limit.of(3));
+        }
+
+        assertThat(seen).extracting(TaskResponseDTO::getId)
+                .containsExactlyInAnyOrderElementsOf(tasks.stream().map(Task::getId).toList());
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(TaskResponseDTO::getCreatedAt)
+                .thenComparing(TaskResponseDTO::getId)
+                .reversed());
+    }
+
+    @Test
+    void statusPagesAndCountsUseTheSameFilter() {
+        List<TaskResponseDTO> completed = taskQueryRepository.findFirstPageByStatus(user.getId(), TaskStatus.COMPLETED, Limit.of(TASKS));
+
+        assertThat(completed).hasSize(4).allMatch(task -> task.getStatus() == TaskStatus.COMPLETED);
+        assertThat(taskQueryRepository.countByStatus(List.of(user.getId())))
+                .extracting(TaskStatusCount::status, TaskStatusCount::count)
+                .containsExactlyInAnyOrder(
+                        tuple(TaskStatus.PENDING, 3L),
+                        tuple(TaskStatus.COMPLETED, 4L));
+    }
+}
@@ -0,0 +1,93 @@
+package com.portfolio.todolist.search;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.event.TaskChangedEvent;
+import com.portfolio.todolist.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Limite do índice em documentos: cada partição pesa o número de tarefas indexadas do usuário
+class TaskSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 9, 0);
+
+    private final Map<Long, List<TaskResponseDTO>> stored = new HashMap<>();
+    private final Map<Long, Integer> loads = new HashMap<>();
+
+    private final TaskSearchIndexLoader loader = new TaskSearchIndexLoader(null) {
+        @Override
+        public void load(Long userId, Consumer<TaskResponseDTO> consumer) {
+            loads.merge(userId, 1, Integer::sum);
+            stored.getOrDefault(userId, List.of()).forEach(consumer);
+        }
+    };
+
+    @Test
+    void partitionsWeighTheirDocuments() {
+        TaskSearchIndex index = new TaskSearchIndex(loader, 100);
+        store(1L, 3);
+        store(2L, 2);
+
+        index.search(1L, "tarefa");
+        index.search(2L, "tarefa");
+
+        assertThat(index.residentDocuments()).isEqualTo(5);
+    }
+
+    @Test
+    void incrementalChangesUpdateTheWeight() {
+        TaskSearchIndex index = new TaskSearchIndex(loader, 100);
+        store(1L, 3);
+        index.search(1L, "tarefa");
+
+        index.onTaskChanged(TaskChangedEvent.created(1L, task(10L)));
+        assertThat(index.residentDocuments()).isEqualTo(4);
+
+        index.onTaskChanged(TaskChangedEvent.deleted(1L, 1L));
+        index.onTaskChanged(TaskChangedEvent.deleted(1L, 2L));
+        assertThat(index.residentDocuments()).isEqualTo(2);
+    }
+
+    // Uma conta grande desloca as pequenas em vez de somar acima do limite
+    @Test
+    void largeAccountsStayWithinTheDocumentLimit() {
+        TaskSearchIndex index = new TaskSearchIndex(loader, 10);
+        for (long userId = 1; userId <= 4; userId++) {
+            store(userId, 3);
+            index.search(userId, "tarefa");
+        }
+        store(5L, 8);
+
+        assertThat(index.search(5L, "tarefa")).hasSize(8);
+        assertThat(index.residentDocuments()).isLessThanOrEqualTo(10);
+    }
+
+    // Maior que o limite inteiro: responde, mas não fica residente
+    @Test
+    void partitionLargerThanTheLimitIsNotKept() {
+        TaskSearchIndex index = new TaskSearchIndex(loader, 10);
+        store(1L, 11);
+
+        assertThat(index.search(1L, "tarefa")).hasSize(11);
+        assertThat(index.residentDocuments()).isZero();
+
+        assertThat(index.search(1L, "tarefa")).hasSize(11);
+        assertThat(loads.get(1L)).isEqualTo(2);
+    }
+
+    private void store(Long userId, int tasks) {
+        stored.put(userId, LongStream.rangeClosed(1, tasks).mapToObj(TaskSearchIndexTest::task).toList());
+    }
+
+    private static TaskResponseDTO task(long id) {
+        return new TaskResponseDTO(id, "Tarefa " + id, null, TaskStatus.PENDING, NOW, NOW, 0L);
+    }
+}
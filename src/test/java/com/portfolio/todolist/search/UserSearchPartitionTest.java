@@ -0,0 +1,110 @@
+package com.portfolio.todolist.search;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Relevância: termo exato no título > parte do título > descrição; frase inteira no título ganha bônus
+class UserSearchPartitionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 9, 0);
+
+    private final UserSearchPartition partition = new UserSearchPartition();
+
+    @Test
+    void ranksTitleTermsAboveSubstringsAboveDescriptions() {
+        load(task(1L, "Comprar pão", "passar no relatório"),
+                task(2L, "Relatórios antigos", null),
+                task(3L, "Relatório mensal", null),
+                task(4L, "Lavar o carro", null));
+
+        assertThat(search("relatorio")).containsExactly(3L, 2L, 1L);
+        assertThat(partition.search("relatorio")).extracting(TaskSearchHit::score).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void ignoresCaseAndAccents() {
+        load(task(1L, "Reunião às 10h", null));
+
+        assertThat(search("REUNIAO")).containsExactly(1L);
+        assertThat(search("reuniÃo AS")).containsExactly(1L);
+    }
+
+    @Test
+    void requiresEveryTerm() {
+        load(task(1L, "Relatório mensal", null),
+                task(2L, "Relatório anual", "revisar o mensal também"),
+                task(3L, "Fechamento mensal", null));
+
+        assertThat(search("relatorio mensal")).containsExactly(1L, 2L);
+        assertThat(search("relatorio trimestral")).isEmpty();
+    }
+
+    @Test
+    void wholePhraseInTheTitleRanksFirst() {
+        load(task(1L, "Mensal: relatório", null),
+                task(2L, "Relatório mensal", null));
+
+        assertThat(partition.search("relatorio mensal"))
+                .extracting(hit -> hit.task().getId(), TaskSearchHit::score)
+                .containsExactly(tuple(2L, 8), tuple(1L, 6));
+    }
+
+    // Empate de relevância: mais recentes primeiro (mesma ordem da paginação por cursor)
+    @Test
+    void breaksTiesByCreationThenId() {
+        load(task(1L, "Pagar conta", null, NOW.minusDays(1)),
+                task(2L, "Pagar aluguel", null, NOW),
+                task(3L, "Pagar escola", null, NOW));
+
+        assertThat(search("pagar")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void shortTermsMatchWithoutTrigrams() {
+        load(task(1L, "Ir ao TI", null), task(2L, "Tirar lixo", null));
+
+        assertThat(search("ti")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void incrementalUpdatesReplaceAndRemoveDocuments() {
+        load(task(1L, "Relatório mensal", null), task(2L, "Relatório anual", null));
+
+        partition.upsert(task(1L, "Planilha de custos", null));
+        partition.remove(2L);
+
+        assertThat(search("relatorio")).isEmpty();
+        assertThat(search("planilha")).containsExactly(1L);
+        assertThat(partition.size()).isEqualTo(1);
+    }
+
+    @Test
+    void blankQueriesMatchNothing() {
+        load(task(1L, "Qualquer coisa", null));
+
+        assertThat(search("  ")).isEmpty();
+    }
+
+    private void load(TaskResponseDTO... tasks) {
+        partition.ensureLoaded(consumer -> List.of(tasks).forEach(consumer));
+    }
+
+    private List<Long> search(String query) {
+        return partition.search(query).stream().map(hit -> hit.task().getId()).toList();
+    }
+
+    private static TaskResponseDTO task(Long id, String title, String description) {
+        return task(id, title, description, NOW);
+    }
+
+    private static TaskResponseDTO task(Long id, String title, String description, LocalDateTime createdAt) {
+        return new TaskResponseDTO(id, title, description, TaskStatus.PENDING, createdAt, createdAt, 0L);
+    }
+}
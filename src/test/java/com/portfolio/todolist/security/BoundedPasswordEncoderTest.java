@@ -0,0 +1,103 @@
+package com.portfolio.todolist.security;
+
+import com.portfolio.todolist.exception.GlobalExceptionHandler;
+import com.portfolio.todolist.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+// Pool de hashing limitado: com a thread ocupada e a fila cheia, o próximo hash é recusado na hora (503)
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Hash que só termina quando o teste libera
+    private final PasswordEncoder blocking = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    @AfterEach
+    void releaseWorkers() {
+        release.countDown();
+    }
+
+    @Test
+    void fullQueueIsRejectedWithRetryAfter() throws Exception {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(3), meterRegistry)) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("primeira"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("segunda"));
+            awaitQueued(encoder);
+
+            ServiceOverloadedException rejected = catchThrowableOfType(ServiceOverloadedException.class,
+                    () -> encoder.matches("terceira", "hash:terceira"));
+
+            assertThat(rejected.getRetryAfterSeconds()).isEqualTo(3);
+            assertThat(meterRegistry.get("security.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+            // Liberado o pool, as que estavam em andamento e na fila terminam normalmente
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:primeira");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:segunda");
+        }
+    }
+
+    @Test
+    void slowHashIsAbandonedAfterTheTimeout() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofMillis(100), meterRegistry)) {
+            ServiceOverloadedException rejected = catchThrowableOfType(ServiceOverloadedException.class,
+                    () -> encoder.encode("lenta"));
+
+            assertThat(rejected.getRetryAfterSeconds()).isEqualTo(1);
+            assertThat(meterRegistry.get("security.password.hashing.rejected").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void rejectionRespondsServiceUnavailableWithRetryAfter() {
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler()
+                .handleServiceOverloadedException(new ServiceOverloadedException("Muitas autenticações", 3));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getBody()).containsEntry("status", 503);
+    }
+
+    // A segunda tarefa é submetida por outra thread: espera ela entrar na fila do pool
+    private void awaitQueued(BoundedPasswordEncoder encoder) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (encoder.queuedTasks() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(encoder.queuedTasks()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.portfolio.todolist.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Validação dos access tokens sem contexto Spring (mesma montagem do JwtTokenProviderBenchmark)
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "minhachavesecretasuperseguradoprojeto2024todolistpro123456789";
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100);
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(cache);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 900_000L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+    }
+
+    @Test
+    void issuedTokensCarryARevocableId() {
+        JwtTokenProvider.AccessToken token = tokenProvider.issueAccessToken(UserPrincipal.fromToken(1L, "joao"));
+
+        assertThat(tokenProvider.parseClaims(token.token()))
+                .hasValueSatisfying(claims -> {
+                    assertThat(claims.getId()).isEqualTo(token.jti());
+                    assertThat(claims.getSubject()).isEqualTo("joao");
+                    assertThat(tokenProvider.getUserIdFromClaims(claims)).isEqualTo(1L);
+                });
+    }
+
+    // Verificação uma vez por token: as repetições vêm do cache, com as mesmas claims
+    @Test
+    void repeatedTokensAreVerifiedOnce() {
+        String token = tokenProvider.issueAccessToken(UserPrincipal.fromToken(1L, "joao")).token();
+
+        Claims first = tokenProvider.parseClaims(token).orElseThrow();
+        Claims second = tokenProvider.parseClaims(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(VerifiedTokenCache.digest(token))).isSameAs(first);
+    }
+
+    @Test
+    void evictedTokensAreVerifiedAgain() {
+        String token = tokenProvider.issueAccessToken(UserPrincipal.fromToken(1L, "joao")).token();
+        Claims first = tokenProvider.parseClaims(token).orElseThrow();
+
+        tokenProvider.evict(token);
+
+        assertThat(cache.get(VerifiedTokenCache.digest(token))).isNull();
+        assertThat(tokenProvider.parseClaims(token)).hasValueSatisfying(claims -> assertThat(claims).isNotSameAs(first));
+    }
+
+    // A chave é o hash do token inteiro: qualquer alteração na assinatura é verificada (e recusada)
+    @Test
+    void tamperedTokensMissTheCacheAndAreRejected() {
+        String token = tokenProvider.issueAccessToken(UserPrincipal.fromToken(1L, "joao")).token();
+        tokenProvider.parseClaims(token);
+
+        // Caractere no meio da assinatura (o último carrega bits de preenchimento do Base64)
+        int position = token.length() - 10;
+        char original = token.charAt(position);
+        String tampered = token.substring(0, position) + (original == 'A' ? 'B' : 'A') + token.substring(position + 1);
+
+        assertThat(tokenProvider.parseClaims(tampered)).isEmpty();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredOrUnboundedClaimsAreNotCached() {
+        Claims expired = Jwts.claims().id("a").expiration(new Date(System.currentTimeMillis() - 1000)).build();
+        Claims unbounded = Jwts.claims().id("b").build();
+
+        cache.put("expirado", expired);
+        cache.put("sem-exp", unbounded);
+
+        assertThat(cache.get("expirado")).isNull();
+        assertThat(cache.get("sem-exp")).isNull();
+    }
+
+    // Validamente assinado, mas sem "jti": não poderia ser revogado, então não é aceito nem entra no cache
+    @Test
+    void tokensWithoutAnIdAreRejected() {
+        String token = Jwts.builder()
+                .subject("joao")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(tokenProvider.parseClaims(token)).isEmpty();
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package com.portfolio.todolist.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(1000, 0.01);
+
+    @Test
+    void revokedTokensStayRevokedUntilTheyExpire() {
+        String jti = UUID.randomUUID().toString();
+        revocationList.revoke(jti, System.currentTimeMillis() + 60_000);
+
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    void tokensWithoutAnIdAreTreatedAsRevoked() {
+        assertThat(revocationList.isRevoked(null)).isTrue();
+    }
+
+    @Test
+    void expiredEntriesArePurgedAndNoLongerMatch() throws InterruptedException {
+        String expiring = UUID.randomUUID().toString();
+        String active = UUID.randomUUID().toString();
+        revocationList.revoke(expiring, System.currentTimeMillis() + 50);
+        revocationList.revoke(active, System.currentTimeMillis() + 60_000);
+
+        Thread.sleep(100);
+
+        assertThat(revocationList.purgeExpired()).isEqualTo(1);
+        assertThat(revocationList.isRevoked(expiring)).isFalse();
+        assertThat(revocationList.isRevoked(active)).isTrue();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+
+    // Falsos positivos do bloom filter são resolvidos no conjunto exato: nenhum token válido é recusado
+    @Test
+    void bloomFilterFalsePositivesNeverRejectValidTokens() {
+        IntStream.range(0, 1000).forEach(i -> revocationList.revoke("revogado-" + i, System.currentTimeMillis() + 60_000));
+
+        long wronglyRevoked = IntStream.range(0, 10_000)
+                .filter(i -> revocationList.isRevoked("valido-" + i))
+                .count();
+
+        assertThat(wronglyRevoked).isZero();
+    }
+}
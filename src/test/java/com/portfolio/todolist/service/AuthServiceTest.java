@@ -0,0 +1,133 @@
+package com.portfolio.todolist.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.portfolio.todolist.repository.UserRepository;
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.portfolio.todolist.support.TestUsers.authenticated;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Custo do BCrypt na autenticação: o registro faz um único hash (sem verificar a senha de novo) e o login refaz
+// hashes desatualizados (sem prefixo ou com custo menor) com a configuração atual. O primeiro login do contexto
+// também codifica uma senha fictícia (proteção de timing do DaoAuthenticationProvider): as verificações do login
+// olham só a senha do usuário
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthServiceTest {
+
+    // IP próprio por teste: /api/auth é limitado por IP (RateLimitFilter)
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    private String clientAddress;
+
+    @BeforeEach
+    void setUp() {
+        clientAddress = "10.0.2." + CLIENTS.incrementAndGet();
+        clearInvocations(passwordEncoder);
+    }
+
+    @Test
+    void registerHashesOnceAndIssuesTheTokenWithoutVerifying() throws Exception {
+        String username = "registro-" + UUID.randomUUID().toString().substring(0, 8);
+        String body = "{\"username\":\"" + username + "\",\"email\":\"" + username + "@teste.com\",\"password\":\"senha123\"}";
+
+        String response = mockMvc.perform(client(post("/api/auth/register")).content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(passwordEncoder, times(1)).encode(any());
+        verify(passwordEncoder, never()).matches(any(), anyString());
+
+        mockMvc.perform(authenticated(get("/api/tasks"), JsonPath.read(response, "$.token")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void loginRehashesALowerCostHash() throws Exception {
+        TestUser user = testUsers.create("custo", "{bcrypt}" + new BCryptPasswordEncoder(4).encode("senha123"));
+
+        login(user);
+
+        assertThat(storedPassword(user)).startsWith("{bcrypt}$2a$10$");
+        verify(passwordEncoder, times(1)).encode("senha123");
+    }
+
+    @Test
+    void loginRehashesALegacyHashWithoutPrefix() throws Exception {
+        TestUser user = testUsers.create("legado", new BCryptPasswordEncoder(10).encode("senha123"));
+
+        login(user);
+
+        assertThat(storedPassword(user)).startsWith("{bcrypt}$2a$10$");
+        assertThat(passwordEncoder.matches("senha123", storedPassword(user))).isTrue();
+    }
+
+    @Test
+    void loginKeepsACurrentHash() throws Exception {
+        String current = passwordEncoder.encode("senha123");
+        TestUser user = testUsers.create("atual", current);
+        clearInvocations(passwordEncoder);
+
+        login(user);
+
+        assertThat(storedPassword(user)).isEqualTo(current);
+        verify(passwordEncoder, times(1)).matches("senha123", current);
+        verify(passwordEncoder, never()).encode("senha123");
+    }
+
+    private void login(TestUser user) throws Exception {
+        String body = "{\"username\":\"" + user.user().getUsername() + "\",\"password\":\"senha123\"}";
+
+        mockMvc.perform(client(post("/api/auth/login")).content(body))
+                .andExpect(status().isOk());
+    }
+
+    private String storedPassword(TestUser user) {
+        return userRepository.findByUsername(user.user().getUsername()).orElseThrow().getPassword();
+    }
+
+    private MockHttpServletRequestBuilder client(MockHttpServletRequestBuilder request) {
+        return request
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(servletRequest -> {
+                    servletRequest.setRemoteAddr(clientAddress);
+                    return servletRequest;
+                });
+    }
+}
@@ -0,0 +1,156 @@
+package com.portfolio.todolist.service;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Rotação de refresh tokens pela API: cada uso troca o par; reusar um token já trocado revoga a família inteira,
+// inclusive os access tokens ainda válidos (checados em memória pelo JwtAuthenticationFilter). Access token
+// recusado não autentica a requisição, que recebe 403 (sem entry point próprio no SecurityConfig)
+@SpringBootTest
+@AutoConfigureMockMvc
+class RefreshTokenServiceTest {
+
+    // IP próprio por teste: /api/auth é limitado por IP (RateLimitFilter)
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String clientAddress;
+
+    @BeforeEach
+    void setUp() {
+        clientAddress = "10.0.0." + CLIENTS.incrementAndGet();
+    }
+
+    @Test
+    void refreshRotatesBothTokens() throws Exception {
+        Session first = register();
+        Session second = refresh(first.refreshToken());
+
+        assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
+        assertThat(second.accessToken()).isNotEqualTo(first.accessToken());
+
+        mockMvc.perform(bearer(get("/api/tasks"), second.accessToken()))
+                .andExpect(status().isOk());
+        mockMvc.perform(bearer(get("/api/tasks"), first.accessToken()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesTheWholeFamily() throws Exception {
+        Session first = register();
+        Session second = refresh(first.refreshToken());
+
+        // O token já trocado volta a aparecer (vazamento): 401 e sessão encerrada
+        mockMvc.perform(client(post("/api/auth/refresh")).content(refreshBody(first.refreshToken())))
+                .andExpect(status().isUnauthorized());
+
+        // O token legítimo mais recente também deixa de valer, assim como todos os access tokens da família
+        mockMvc.perform(client(post("/api/auth/refresh")).content(refreshBody(second.refreshToken())))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(bearer(get("/api/tasks"), second.accessToken()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(bearer(get("/api/tasks"), first.accessToken()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void reuseDoesNotAffectOtherSessionsOfTheUser() throws Exception {
+        Session registered = register();
+        Session otherDevice = login(registered.username());
+
+        Session rotated = refresh(registered.refreshToken());
+        mockMvc.perform(client(post("/api/auth/refresh")).content(refreshBody(registered.refreshToken())))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(bearer(get("/api/tasks"), rotated.accessToken()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(bearer(get("/api/tasks"), otherDevice.accessToken()))
+                .andExpect(status().isOk());
+        refresh(otherDevice.refreshToken());
+    }
+
+    @Test
+    void logoutRevokesTheAccessTokenAndTheSession() throws Exception {
+        Session session = register();
+
+        mockMvc.perform(bearer(post("/api/auth/logout"), session.accessToken()).content(refreshBody(session.refreshToken())))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(bearer(get("/api/tasks"), session.accessToken()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(client(post("/api/auth/refresh")).content(refreshBody(session.refreshToken())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void unknownRefreshTokenIsRejected() throws Exception {
+        mockMvc.perform(client(post("/api/auth/refresh")).content(refreshBody("desconhecido")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private Session register() throws Exception {
+        String username = "sessao-" + UUID.randomUUID().toString().substring(0, 8);
+        String body = "{\"username\":\"" + username + "\",\"email\":\"" + username + "@teste.com\",\"password\":\"senha123\"}";
+
+        return session(mockMvc.perform(client(post("/api/auth/register")).content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private Session login(String username) throws Exception {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"senha123\"}";
+
+        return session(mockMvc.perform(client(post("/api/auth/login")).content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private Session refresh(String refreshToken) throws Exception {
+        return session(mockMvc.perform(client(post("/api/auth/refresh")).content(refreshBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private static Session session(String response) {
+        return new Session(JsonPath.read(response, "$.username"), JsonPath.read(response, "$.token"),
+                JsonPath.read(response, "$.refreshToken"));
+    }
+
+    private static String refreshBody(String refreshToken) {
+        return "{\"refreshToken\":\"" + refreshToken + "\"}";
+    }
+
+    private MockHttpServletRequestBuilder client(MockHttpServletRequestBuilder request) {
+        return request
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(servletRequest -> {
+                    servletRequest.setRemoteAddr(clientAddress);
+                    return servletRequest;
+                });
+    }
+
+    private MockHttpServletRequestBuilder bearer(MockHttpServletRequestBuilder request, String accessToken) {
+        return client(request).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    private record Session(String username, String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.event.TaskChangedEvent;
+import com.portfolio.todolist.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Leituras do banco que concorrem com uma alteração confirmada não podem repovoar o cache com o valor antigo
+class TaskCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final TaskCache cache = new TaskCache(new ConcurrentMapCacheManager(TaskCache.CACHE_NAME));
+
+    @Test
+    void readStartedBeforeADeleteIsNotCached() {
+        TaskResponseDTO task = task(10L, 0L);
+        long generation = cache.generation(USER_ID, task.getId());
+
+        // A remoção é confirmada entre a leitura no banco e o put
+        cache.onTaskChanged(TaskChangedEvent.deleted(USER_ID, task.getId()));
+        cache.putIfUnchanged(USER_ID, task, generation);
+
+        assertThat(cache.get(USER_ID, task.getId())).isEmpty();
+    }
+
+    @Test
+    void readStartedBeforeAnUpdateKeepsTheNewerValue() {
+        TaskResponseDTO stale = task(11L, 0L);
+        long generation = cache.generation(USER_ID, stale.getId());
+
+        cache.onTaskChanged(TaskChangedEvent.updated(USER_ID, task(11L, 1L)));
+        cache.putIfUnchanged(USER_ID, stale, generation);
+
+        assertThat(cache.get(USER_ID, stale.getId())).map(TaskResponseDTO::getVersion).contains(1L);
+    }
+
+    @Test
+    void readWithoutConcurrentChangesIsCachedPerUser() {
+        TaskResponseDTO task = task(12L, 0L);
+        cache.putIfUnchanged(USER_ID, task, cache.generation(USER_ID, task.getId()));
+
+        assertThat(cache.get(USER_ID, task.getId())).contains(task);
+        assertThat(cache.get(2L, task.getId())).isEmpty();
+    }
+
+    private static TaskResponseDTO task(Long id, Long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskResponseDTO(id, "Tarefa " + id, null, TaskStatus.PENDING, now, now, version);
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.todolist.service;
+
+import com.portfolio.todolist.dto.TaskResponseDTO;
+import com.portfolio.todolist.exception.InvalidRequestException;
+import com.portfolio.todolist.model.TaskStatus;
+import com.portfolio.todolist.search.TaskSearchHit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_000);
+
+    @Test
+    void roundTripsTheKeysetPosition() {
+        TaskCursor cursor = new TaskCursor(CREATED_AT, 4_503_599_627_370_495L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(TaskCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsTheSearchRank() {
+        TaskCursor cursor = TaskCursor.of(new TaskSearchHit(task(7L, CREATED_AT), 42));
+
+        assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(new TaskCursor(CREATED_AT, 7L, 42));
+    }
+
+    // Tokens adulterados ou truncados respondem 400 (InvalidRequestException), nunca 500
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "não é base64!",
+            "MjAyNi0wMy0xNFQxNTowOToyNg",              // só a data
+            "MjAyNi0wMy0xNFQxNTowOToyNnwxfDJ8Mw",      // campos demais
+            "b250ZW18MQ",                              // data inválida
+            "MjAyNi0wMy0xNFQxNTowOToyNnx1bQ",          // id não numérico
+            "MjAyNi0wMy0xNFQxNTowOToyNnwxfGFsdG8"      // rank não numérico
+    })
+    void rejectsMalformedTokens(String token) {
+        assertThatThrownBy(() -> TaskCursor.decode(token))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Cursor de paginação inválido");
+    }
+
+    @Test
+    void rejectsAModifiedToken() {
+        String token = new TaskCursor(CREATED_AT, 7L).encode();
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.replace("|7", "|7 or 1=1").getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> TaskCursor.decode(tampered)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    // Ordem da busca: relevância decrescente e, no empate, (createdAt, id) decrescentes
+    @Test
+    void searchPositionPrecedesLowerRankedAndOlderHits() {
+        TaskCursor cursor = new TaskCursor(CREATED_AT, 10L, 50);
+
+        assertThat(cursor.precedes(new TaskSearchHit(task(99L, CREATED_AT.plusDays(1)), 49))).isTrue();
+        assertThat(cursor.precedes(new TaskSearchHit(task(1L, CREATED_AT.minusDays(1)), 51))).isFalse();
+        assertThat(cursor.precedes(new TaskSearchHit(task(9L, CREATED_AT), 50))).isTrue();
+        assertThat(cursor.precedes(new TaskSearchHit(task(10L, CREATED_AT), 50))).isFalse();
+        assertThat(cursor.precedes(new TaskSearchHit(task(11L, CREATED_AT.minusNanos(1000)), 50))).isTrue();
+    }
+
+    private static TaskResponseDTO task(Long id, LocalDateTime createdAt) {
+        return new TaskResponseDTO(id, "Tarefa " + id, null, TaskStatus.PENDING, createdAt, createdAt, 0L);
+    }
+}
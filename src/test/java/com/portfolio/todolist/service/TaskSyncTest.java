@@ -0,0 +1,113 @@
+package com.portfolio.todolist.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Sincronização incremental (/api/tasks/changes): alteradas desde o token e IDs removidos (tombstones)
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskSyncTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    private TestUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = testUsers.create("sync");
+    }
+
+    @Test
+    void firstSyncReturnsEverythingAndALaggedToken() throws Exception {
+        long first = createTask("Primeira");
+        long second = createTask("Segunda");
+
+        String response = mockMvc.perform(user.authenticated(get("/api/tasks/changes")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[*].id").value(containsInAnyOrder(first, second)))
+                .andExpect(jsonPath("$.deleted").value(empty()))
+                .andExpect(jsonPath("$.resyncRequired").value(false))
+                .andReturn().getResponse().getContentAsString();
+
+        // O token fica atrás do relógio (tasks.sync.commit-lag): transações que ainda não commitaram são relidas
+        LocalDateTime watermark = SyncToken.decode(JsonPath.read(response, "$.syncToken")).watermark();
+        assertThat(Duration.between(watermark, LocalDateTime.now())).isBetween(Duration.ofSeconds(9), Duration.ofSeconds(15));
+    }
+
+    @Test
+    void deltaContainsChangesAndTombstonesSinceTheToken() throws Exception {
+        long updated = createTask("Alterada");
+        long removed = createTask("Removida");
+        long untouched = createTask("Intocada");
+        String since = new SyncToken(LocalDateTime.now()).encode();
+
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", updated)).content("{\"status\":\"COMPLETED\",\"version\":0}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(user.authenticated(delete("/api/tasks/{id}", removed)))
+                .andExpect(status().isNoContent());
+        long created = createTask("Nova");
+
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")).param("since", since))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[*].id").value(contains(updated, created)))
+                .andExpect(jsonPath("$.changed[0].status").value("COMPLETED"))
+                .andExpect(jsonPath("$.changed[0].version").value(1))
+                .andExpect(jsonPath("$.deleted").value(contains(removed)))
+                .andExpect(jsonPath("$.resyncRequired").value(false));
+
+        // Tarefa sem alterações não aparece de novo
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")).param("since", since))
+                .andExpect(jsonPath("$.changed[?(@.id == " + untouched + ")]").value(empty()));
+    }
+
+    // Token anterior à retenção dos tombstones: as remoções podem ter sido expurgadas, o cliente recarrega tudo
+    @Test
+    void tokenOlderThanTheRetentionRequiresAResync() throws Exception {
+        createTask("Qualquer");
+        String since = new SyncToken(LocalDateTime.now().minusDays(31)).encode();
+
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")).param("since", since))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resyncRequired").value(true))
+                .andExpect(jsonPath("$.changed").value(empty()))
+                .andExpect(jsonPath("$.syncToken").isNotEmpty());
+    }
+
+    @Test
+    void malformedTokenIsRejected() throws Exception {
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")).param("since", "não-é-um-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long createTask(String title) throws Exception {
+        String created = mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"" + title + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.<Number>read(created, "$.id").longValue();
+    }
+}
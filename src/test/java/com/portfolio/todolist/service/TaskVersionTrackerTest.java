@@ -0,0 +1,47 @@
+package com.portfolio.todolist.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Versões locais da instância: mudam só com as escritas que ela atendeu
+class TaskVersionTrackerTest {
+
+    private final TaskVersionTracker tracker = tracker(true);
+
+    @Test
+    void localWritesChangeOnlyTheirUsersETag() {
+        String before = tracker.etag(1L, MediaType.APPLICATION_JSON);
+        String other = tracker.etag(2L, MediaType.APPLICATION_JSON);
+
+        tracker.bump(1L);
+
+        assertThat(tracker.etag(1L, MediaType.APPLICATION_JSON)).startsWith("W/\"").isNotEqualTo(before);
+        assertThat(tracker.etag(2L, MediaType.APPLICATION_JSON)).isEqualTo(other);
+    }
+
+    // Outra instância não recebe o evento: a ETag desta continua igual (por isso o GET condicional pode ser desligado)
+    @Test
+    void writesOnAnotherInstanceAreNotSeen() {
+        TaskVersionTracker otherInstance = tracker(true);
+        String etag = tracker.etag(1L, MediaType.APPLICATION_JSON);
+
+        otherInstance.bump(1L);
+
+        assertThat(tracker.etag(1L, MediaType.APPLICATION_JSON)).isEqualTo(etag);
+    }
+
+    @Test
+    void disabledTrackerIssuesNoETag() {
+        assertThat(tracker(false).etag(1L, MediaType.APPLICATION_JSON)).isNull();
+    }
+
+    private static TaskVersionTracker tracker(boolean enabled) {
+        TaskVersionTracker tracker = new TaskVersionTracker();
+        ReflectionTestUtils.setField(tracker, "enabled", enabled);
+        ReflectionTestUtils.setField(tracker, "maxUsers", 100);
+        return tracker;
+    }
+}
@@ -0,0 +1,195 @@
+package com.portfolio.todolist.sharding;
+
+import com.jayway.jsonpath.JsonPath;
+import com.portfolio.todolist.support.TestUsers;
+import com.portfolio.todolist.support.TestUsers.TestUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Sharding com três H2 em memória: o shard padrão (spring.datasource, com users e o diretório) e dois adicionais,
+// cujo schema vem do ShardSchemaManager. As linhas de cada usuário são conferidas direto em cada banco
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ShardingTest.SHARD0_URL,
+        "sharding.shard-urls=" + ShardingTest.SHARD1_URL + "," + ShardingTest.SHARD2_URL,
+        "sharding.rebalance.grace-period=0s",
+        "sharding.rebalance.batch-delay=0s",
+        "sharding.rebalance.initial-delay-ms=3600000",
+        "sharding.directory.refresh-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ShardingTest {
+
+    static final String SHARD0_URL = "jdbc:h2:mem:sharding-0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String SHARD1_URL = "jdbc:h2:mem:sharding-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String SHARD2_URL = "jdbc:h2:mem:sharding-2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final Map<String, String> URLS = Map.of("shard0", SHARD0_URL, "shard1", SHARD1_URL, "shard2", SHARD2_URL);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private ShardDirectory shardDirectory;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Test
+    void tasksAreStoredOnTheShardOfTheirOwner() throws Exception {
+        Set<String> usedShards = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+
+        for (int i = 0; i < 12; i++) {
+            TestUser user = testUsers.create("shard");
+            long id = createTask(user, "Tarefa " + i);
+            String shard = shardDirectory.shardFor(user.id());
+
+            assertThat(id).isPositive().isLessThan(1L << 53);
+            assertThat(ids.add(id)).isTrue();
+            assertRowsOnlyOn(shard, user.id(), 1);
+            usedShards.add(shard);
+
+            mockMvc.perform(user.authenticated(get("/api/tasks/{id}", id)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("Tarefa " + i));
+        }
+
+        assertThat(usedShards).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void movedUserKeepsTasksHistoryAndStats() throws Exception {
+        TestUser user = testUsers.create("shard");
+        long kept = createTask(user, "Mantida");
+        long removed = createTask(user, "Removida");
+        mockMvc.perform(user.authenticated(delete("/api/tasks/{id}", removed))).andExpect(status().isNoContent());
+
+        String source = shardDirectory.shardFor(user.id());
+        String target = otherShard(source);
+
+        assertThat(shardRebalancer.moveUser(user.id(), target)).isTrue();
+        assertThat(shardDirectory.shardFor(user.id())).isEqualTo(target);
+        assertRowsOnlyOn(target, user.id(), 1);
+        assertThat(count(source, "task_tombstones", user.id()) + count(source, "user_task_stats", user.id())).isZero();
+        assertThat(count(target, "task_tombstones", user.id())).isEqualTo(1);
+
+        mockMvc.perform(user.authenticated(get("/api/tasks")))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(kept));
+        mockMvc.perform(user.authenticated(get("/api/tasks/changes")))
+                .andExpect(jsonPath("$.deleted[0]").value(removed));
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", kept)).content("{\"status\":\"COMPLETED\",\"version\":0}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(user.authenticated(get("/api/tasks/stats")))
+                .andExpect(jsonPath("$.completed").value(1))
+                .andExpect(jsonPath("$.total").value(1));
+
+        // Novas tarefas já nascem no destino
+        createTask(user, "Depois da migração");
+        assertRowsOnlyOn(target, user.id(), 2);
+    }
+
+    @Test
+    void writesAreRejectedWhileTheUserMigrates() throws Exception {
+        TestUser user = testUsers.create("shard");
+        long id = createTask(user, "Em migração");
+        String source = shardDirectory.shardFor(user.id());
+
+        assertThat(shardDirectory.beginMigration(user.id(), source, otherShard(source))).isTrue();
+        shardDirectory.refresh();
+
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", id)).content("{\"title\":\"Editada\",\"version\":0}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        mockMvc.perform(user.authenticated(get("/api/tasks/{id}", id)))
+                .andExpect(status().isOk());
+
+        shardDirectory.abortMigration(user.id());
+        shardDirectory.refresh();
+
+        mockMvc.perform(user.authenticated(patch("/api/tasks/{id}", id)).content("{\"title\":\"Editada\",\"version\":0}"))
+                .andExpect(status().isOk());
+        assertRowsOnlyOn(source, user.id(), 1);
+    }
+
+    @Test
+    void rebalanceDrainsAShardRemovedFromTheRing() throws Exception {
+        List<TestUser> users = new ArrayList<>();
+        while (users.stream().noneMatch(user -> shardDirectory.shardFor(user.id()).equals("shard2"))) {
+            TestUser user = testUsers.create("shard");
+            createTask(user, "Tarefa de " + user.id());
+            users.add(user);
+        }
+
+        ConsistentHashRing withoutShard2 = shardDirectory.ringOf(List.of("shard0", "shard1"));
+        assertThat(shardRebalancer.rebalance(withoutShard2)).isPositive();
+
+        assertThat(count("shard2", "tasks", null)).isZero();
+        for (TestUser user : users) {
+            assertThat(shardDirectory.shardFor(user.id())).isEqualTo(withoutShard2.shardFor(user.id()));
+            mockMvc.perform(user.authenticated(get("/api/tasks")))
+                    .andExpect(jsonPath("$.content[0].title").value("Tarefa de " + user.id()));
+        }
+
+        // Nada a mover numa segunda execução
+        assertThat(shardRebalancer.rebalance(withoutShard2)).isZero();
+    }
+
+    private void assertRowsOnlyOn(String shard, Long userId, int tasks) throws SQLException {
+        for (String name : URLS.keySet()) {
+            assertThat(count(name, "tasks", userId)).as("tarefas no %s", name).isEqualTo(name.equals(shard) ? tasks : 0);
+        }
+    }
+
+    private static int count(String shard, String table, Long userId) throws SQLException {
+        String sql = "select count(*) from " + table + (userId != null ? " where user_id = ?" : "");
+        try (Connection connection = DriverManager.getConnection(URLS.get(shard), "sa", "");
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            if (userId != null) {
+                statement.setLong(1, userId);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    private String otherShard(String shard) {
+        return shardDirectory.shards().stream().filter(name -> !name.equals(shard)).findFirst().orElseThrow();
+    }
+
+    private long createTask(TestUser user, String title) throws Exception {
+        String created = mockMvc.perform(user.authenticated(post("/api/tasks")).content("{\"title\":\"" + title + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.<Number>read(created, "$.id").longValue();
+    }
+}
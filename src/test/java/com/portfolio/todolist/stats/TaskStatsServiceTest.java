@@ -0,0 +1,128 @@
+package com.portfolio.todolist.stats;
+
+import com.portfolio.todolist.model.Task;
+import com.portfolio.todolist.model.TaskStatus;
+import com.portfolio.todolist.model.User;
+import com.portfolio.todolist.model.UserTaskStats;
+import com.portfolio.todolist.repository.TaskRepository;
+import com.portfolio.todolist.repository.UserTaskStatsRepository;
+import com.portfolio.todolist.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Contadores por status: criação concorrente do resumo e reconciliação com tasks
+@SpringBootTest
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskStatsService statsService;
+
+    @Autowired
+    private TaskStatsReconciler reconciler;
+
+    @Autowired
+    private UserTaskStatsRepository statsRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // As duas primeiras alterações do usuário não encontram resumo no UPDATE: a segunda cria o mesmo user_id
+    // enquanto a primeira ainda não fez commit, e nenhuma das duas pode falhar nem perder o incremento
+    @Test
+    void concurrentFirstMutationsCreateTheSummaryOnce() throws Exception {
+        User user = newUser();
+        CountDownLatch firstApplied = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> createTask(user, TaskStatus.PENDING, () -> {
+            firstApplied.countDown();
+            sleep(300);
+        }));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            await(firstApplied);
+            createTask(user, TaskStatus.COMPLETED, () -> {
+            });
+        });
+
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        UserTaskStats stats = statsRepository.findById(user.getId()).orElseThrow();
+        assertThat(stats.getPending()).isEqualTo(1);
+        assertThat(stats.getCompleted()).isEqualTo(1);
+    }
+
+    @Test
+    void reconciliationFixesDriftedAndMissingSummaries() {
+        User drifted = newUser();
+        createTask(drifted, TaskStatus.PENDING, () -> {
+        });
+        createTask(drifted, TaskStatus.IN_PROGRESS, () -> {
+        });
+        assertThat(statsService.getStats(drifted.getId()).getTotal()).isEqualTo(2);
+
+        // Resumo divergente (ex.: alteração feita fora da aplicação) e usuário com tarefas mas sem resumo
+        UserTaskStats stats = statsRepository.findById(drifted.getId()).orElseThrow();
+        stats.setPending(7);
+        statsRepository.save(stats);
+
+        User missing = newUser();
+        createTask(missing, TaskStatus.COMPLETED, () -> {
+        });
+        statsRepository.deleteById(missing.getId());
+
+        reconciler.reconcileAll();
+
+        assertThat(statsRepository.findById(drifted.getId()).orElseThrow().getPending()).isEqualTo(1);
+        assertThat(statsRepository.findById(missing.getId()).orElseThrow().getCompleted()).isEqualTo(1);
+
+        // O cache em memória do usuário corrigido foi descartado
+        assertThat(statsService.getStats(drifted.getId()).getPending()).isEqualTo(1);
+    }
+
+    private void createTask(User user, TaskStatus status, Runnable beforeCommit) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+            Task task = new Task();
+            task.setTitle("Tarefa");
+            task.setStatus(status);
+            task.setUser(user);
+            taskRepository.save(task);
+
+            statsService.applyDelta(user.getId(), new TaskStatsDelta().add(status));
+            beforeCommit.run();
+        });
+    }
+
+    private User newUser() {
+        return testUsers.create("stats").user();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.portfolio.todolist.stream;
+
+import com.portfolio.todolist.support.TestUsers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.portfolio.todolist.support.TestUsers.authenticated;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Feed SSE pela API: o corpo da resposta assíncrona acumula os eventos enviados pelo TaskStreamSubscriber
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskEventBusTest {
+
+    private static final Pattern CREATED_ID = Pattern.compile("id:(\\S+)\nevent:created\ndata:[^\n]*\"title\":\"Primeira\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestUsers testUsers;
+
+    private String token;
+    private String otherToken;
+
+    @BeforeEach
+    void setUp() {
+        token = testUsers.create("sse").token();
+        otherToken = testUsers.create("sse").token();
+    }
+
+    @Test
+    void deliversChangesAfterTheCommit() throws Exception {
+        MockHttpServletResponse stream = subscribe(token, null);
+
+        createTask(token, "Primeira");
+
+        assertThat(awaitContent(stream, "\"title\":\"Primeira\"")).contains("event:created");
+    }
+
+    // Reconexão com Last-Event-ID: recebe só o que veio depois dele, e só do próprio usuário
+    @Test
+    void replaysMissedEventsAfterTheLastEventId() throws Exception {
+        MockHttpServletResponse first = subscribe(token, null);
+        createTask(token, "Primeira");
+
+        Matcher matcher = CREATED_ID.matcher(awaitContent(first, "\"title\":\"Primeira\""));
+        assertThat(matcher.find()).isTrue();
+        String lastEventId = matcher.group(1);
+
+        // Alterações enquanto o cliente estava desconectado
+        createTask(token, "Segunda");
+        createTask(otherToken, "De outro usuário");
+        createTask(token, "Terceira");
+
+        MockHttpServletResponse resumed = subscribe(token, lastEventId);
+        String content = awaitContent(resumed, "\"title\":\"Terceira\"");
+
+        assertThat(content).contains("\"title\":\"Segunda\"")
+                .doesNotContain("\"title\":\"Primeira\"", "De outro usuário", "event:reset");
+        assertThat(content.indexOf("Segunda")).isLessThan(content.indexOf("Terceira"));
+    }
+
+    // Id de outra inicialização (ou inválido): não há como retomar, o cliente deve recarregar a lista
+    @Test
+    void unknownLastEventIdSendsAReset() throws Exception {
+        MockHttpServletResponse stream = subscribe(token, "outra-inicializacao-42");
+
+        assertThat(awaitContent(stream, "event:reset")).doesNotContain("event:created");
+    }
+
+    private MockHttpServletResponse subscribe(String bearer, String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder subscription = authenticated(get("/api/tasks/stream"), bearer);
+        if (lastEventId != null) {
+            subscription.header("Last-Event-ID", lastEventId);
+        }
+
+        return mockMvc.perform(subscription)
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private void createTask(String bearer, String title) throws Exception {
+        mockMvc.perform(authenticated(post("/api/tasks"), bearer).content("{\"title\":\"" + title + "\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    // Os eventos são escritos pela virtual thread do assinante: aguarda até o trecho esperado chegar
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (true) {
+            String content = response.getContentAsString();
+            if (content.contains(expected) || System.currentTimeMillis() > deadline) {
+                assertThat(content).contains(expected);
+                return content;
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.todolist.support;
+
+import com.portfolio.todolist.model.User;
+import com.portfolio.todolist.repository.UserRepository;
+import com.portfolio.todolist.security.JwtTokenProvider;
+import com.portfolio.todolist.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+// Usuários dos testes de integração: um novo por chamada (caches frios, sem interferência entre testes), com o
+// access token emitido direto pelo JwtTokenProvider. Encontrado pelo component scan da aplicação (mesmo pacote raiz)
+@Component
+@RequiredArgsConstructor
+public class TestUsers {
+
+    // Senha sem hash: não passa pelo login (o DelegatingPasswordEncoder só conhece bcrypt)
+    private static final String NOOP_PASSWORD = "{noop}senha123";
+
+    private final UserRepository userRepository;
+    private final JwtTokenProvider tokenProvider;
+
+    public TestUser create(String prefix) {
+        return create(prefix, NOOP_PASSWORD);
+    }
+
+    public TestUser create(String prefix, String encodedPassword) {
+        String username = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(new User(null, username, username + "@teste.com", encodedPassword, null));
+        return new TestUser(user, tokenProvider.issueAccessToken(UserPrincipal.from(user)).token());
+    }
+
+    public static MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request, String token) {
+        return request
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public record TestUser(User user, String token) {
+
+        public Long id() {
+            return user.getId();
+        }
+
+        public MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+            return TestUsers.authenticated(request, token);
+        }
+    }
+}